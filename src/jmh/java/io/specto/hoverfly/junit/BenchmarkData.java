@@ -0,0 +1,33 @@
+package io.specto.hoverfly.junit;
+
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+
+/**
+ * Typical stubbed services which the benchmarks are run against, sized by their number of request response pairs
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static StubServiceBuilder bookingService(int pairs) {
+        final StubServiceBuilder service = service("www.my-test.com");
+        for (int i = 0; i < pairs; i++) {
+            service.get("/api/bookings/" + i)
+                    .queryParam("page", i % 10)
+                    .header("Accept", "application/json")
+                    .willReturn(success("{\"bookingId\":\"" + i + "\",\"origin\":\"London\",\"destination\":\"Hong Kong\"}",
+                            "application/json"));
+        }
+        return service;
+    }
+
+    public static Simulation bookingSimulation(int pairs) {
+        return SimulationSource.dsl(bookingService(pairs)).getSimulation();
+    }
+}
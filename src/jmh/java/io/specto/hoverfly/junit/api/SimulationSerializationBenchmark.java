@@ -0,0 +1,58 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.specto.hoverfly.junit.BenchmarkData;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of simulations by the client, either streamed into the request as {@link OkHttpHoverflyClient} uploads them, or built
+ * in memory as a string as it does for the smaller commands
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationSerializationBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"10", "10000"})
+    private int pairs;
+
+    private Simulation simulation;
+
+    @Setup
+    public void setUp() {
+        simulation = BenchmarkData.bookingSimulation(pairs);
+    }
+
+    @Benchmark
+    public Buffer streamingRequestBody() throws IOException {
+        final Buffer buffer = new Buffer();
+        new JsonRequestBody(OBJECT_MAPPER, simulation).writeTo(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsString(simulation);
+    }
+}
@@ -0,0 +1,52 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.BenchmarkData;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of simulation files by simulation sources. This reads the bytes directly, as the sources cache what they have already read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationParsingBenchmark {
+
+    @Param({"10", "10000"})
+    private int pairs;
+
+    @Param({"JSON", "SMILE"})
+    private SimulationFormat format;
+
+    private byte[] simulation;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        format.write(BenchmarkData.bookingSimulation(pairs), outputStream);
+        simulation = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public Simulation read() throws IOException {
+        return SimulationFormat.read(new ByteArrayInputStream(simulation));
+    }
+}
@@ -0,0 +1,66 @@
+package io.specto.hoverfly.junit.core.model;
+
+import io.specto.hoverfly.junit.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparing and hashing request response pairs, as the DSL and simulations do when collecting them into sets
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelEqualityBenchmark {
+
+    @Param({"10000"})
+    private int pairs;
+
+    private List<RequestResponsePair> pairList;
+    private RequestResponsePair pair;
+    private RequestResponsePair equalPair;
+
+    @Setup
+    public void setUp() {
+        pairList = new ArrayList<>(BenchmarkData.bookingSimulation(pairs).getHoverflyData().getPairs());
+        pair = pairList.get(0);
+        equalPair = new RequestResponsePair(copy(pair.getRequest()), copy(pair.getResponse()));
+    }
+
+    @Benchmark
+    public Set<RequestResponsePair> collectIntoSet() {
+        return new HashSet<>(pairList);
+    }
+
+    @Benchmark
+    public boolean equalPairs() {
+        return pair.equals(equalPair);
+    }
+
+    private static Request copy(Request request) {
+        return new Request(request.getPath(), request.getMethod(), request.getDestination(), request.getScheme(), request.getQuery(),
+                request.getBody(), request.getHeaders());
+    }
+
+    private static Response copy(Response response) {
+        return new Response(response.getStatus(), response.getBody(), response.isEncodedBody(), response.isTemplated(),
+                response.getHeaders());
+    }
+}
@@ -0,0 +1,55 @@
+package io.specto.hoverfly.junit.dsl;
+
+import io.specto.hoverfly.junit.BenchmarkData;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.startsWith;
+
+/**
+ * Building requests and simulations with the DSL
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DslBenchmark {
+
+    @Benchmark
+    public Request buildRequestMatcher() {
+        return service("www.my-test.com")
+                .post(startsWith("/api/bookings"))
+                .queryParam("page", 1, 2)
+                .header("Content-Type", "application/json")
+                .body("{\"flightId\": \"1\"}")
+                .build();
+    }
+
+    @Benchmark
+    public Simulation buildSimulation(Services services) {
+        return SimulationSource.dsl(BenchmarkData.bookingService(services.pairs)).getSimulation();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Services {
+
+        @Param({"10", "1000"})
+        private int pairs;
+    }
+}
@@ -0,0 +1,69 @@
+package io.specto.hoverfly.junit.dsl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marshalling of request and response bodies given to the DSL as objects
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpBodyConverterBenchmark {
+
+    private final Booking booking = new Booking(1, "London", "Hong Kong", LocalDate.of(2017, 6, 29));
+
+    @Benchmark
+    public String json() {
+        return HttpBodyConverter.json(booking).body();
+    }
+
+    @Benchmark
+    public String xml() {
+        return HttpBodyConverter.xml(booking).body();
+    }
+
+    public static class Booking {
+
+        private final int flightId;
+        private final String origin;
+        private final String destination;
+        private final LocalDate date;
+
+        Booking(int flightId, String origin, String destination, LocalDate date) {
+            this.flightId = flightId;
+            this.origin = origin;
+            this.destination = destination;
+            this.date = date;
+        }
+
+        public int getFlightId() {
+            return flightId;
+        }
+
+        public String getOrigin() {
+            return origin;
+        }
+
+        public String getDestination() {
+            return destination;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of the journal entries reported by a failed verification
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerificationUtilsBenchmark {
+
+    private final JournalEntry entry = createJournalEntry();
+
+    @Benchmark
+    public String format() {
+        return VerificationUtils.format(entry);
+    }
+
+    private static JournalEntry createJournalEntry() {
+        final Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Accept", Collections.singletonList("application/json"));
+        headers.put("Content-Type", Collections.singletonList("application/json"));
+        headers.put("Cookie", Arrays.asList("session=1234", "locale=en_GB"));
+        final RequestDetails request = new RequestDetails("http", "api.flight.com", "/api/bookings", "page=1&size=20",
+                "{\"flightId\": \"1\", \"class\": \"PREMIUM\"}", "POST", headers);
+        return new JournalEntry(request, null, "simulate", LocalDateTime.of(2017, 6, 29, 10, 15, 30), 3);
+    }
+}
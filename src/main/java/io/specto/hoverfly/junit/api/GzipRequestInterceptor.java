@@ -0,0 +1,55 @@
+package io.specto.hoverfly.junit.api;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * Compresses request bodies with gzip, unless they are already encoded
+ */
+class GzipRequestInterceptor implements Interceptor {
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request originalRequest = chain.request();
+        if (originalRequest.body() == null || originalRequest.header(CONTENT_ENCODING) != null) {
+            return chain.proceed(originalRequest);
+        }
+
+        Request request = originalRequest.newBuilder()
+                .header(CONTENT_ENCODING, "gzip")
+                .method(originalRequest.method(), gzip(originalRequest.body()))
+                .build();
+        return chain.proceed(request);
+    }
+
+    private static RequestBody gzip(RequestBody body) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return body.contentType();
+            }
+
+            @Override
+            public long contentLength() {
+                return -1;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                BufferedSink gzipSink = Okio.buffer(new GzipSink(sink));
+                body.writeTo(gzipSink);
+                gzipSink.close();
+            }
+        };
+    }
+}
@@ -1,13 +1,22 @@
 package io.specto.hoverfly.junit.api;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.specto.hoverfly.junit.api.model.ModeArguments;
 import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
 import io.specto.hoverfly.junit.core.HoverflyConstants;
 import io.specto.hoverfly.junit.core.HoverflyMode;
 import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
 import io.specto.hoverfly.junit.core.model.Request;
 import io.specto.hoverfly.junit.core.model.Simulation;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * Http client for querying Hoverfly admin endpoints
  */
@@ -20,8 +29,49 @@ public interface HoverflyClient {
 
     void deleteSimulation();
 
+    /**
+     * Writes the simulation JSON to the given stream as it is received, without deserializing it.
+     * The default implementation falls back to {@link #getSimulation()}.
+     * @param outputStream the stream to write to, which is not closed
+     */
+    default void exportSimulation(OutputStream outputStream) {
+        try {
+            new ObjectMapper()
+                    .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+                    .writeValue(outputStream, getSimulation());
+        } catch (IOException e) {
+            throw new HoverflyClientException("Failed to export simulation: " + e.getMessage());
+        }
+    }
+
     Journal getJournal();
 
+    /**
+     * Gets a page of the journal, with at most the given number of entries starting at the given offset.
+     * The default implementation reads the page from {@link #streamJournal()}.
+     * @param offset the number of entries to skip
+     * @param limit the maximum number of entries to return
+     * @return the entries of the page
+     */
+    default Journal getJournal(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Journal offset and limit cannot be negative.");
+        }
+        try (Stream<JournalEntry> entries = streamJournal()) {
+            return new Journal(entries.skip(offset).limit(limit).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Gets the journal entries as a stream which is read lazily, so that a large journal is never held in memory as a whole.
+     * The stream should be closed if it is not fully consumed. The default implementation falls back to {@link #getJournal()}.
+     * @return the journal entries in the order they were recorded
+     */
+    default Stream<JournalEntry> streamJournal() {
+        final Journal journal = getJournal();
+        return journal.getEntries() == null ? Stream.empty() : journal.getEntries().stream();
+    }
+
     Journal searchJournal(Request request);
 
     void deleteJournal();
@@ -49,6 +99,82 @@ public interface HoverflyClient {
      */
     boolean getHealth();
 
+    /**
+     * Asynchronous variant of {@link #setSimulation(Simulation)}. The default implementation runs the blocking call on the common pool.
+     * @param simulation the simulation to import
+     * @return a future which completes when the simulation is imported, or completes exceptionally with {@link HoverflyClientException}
+     */
+    default CompletableFuture<Void> setSimulationAsync(Simulation simulation) {
+        return CompletableFuture.runAsync(() -> setSimulation(simulation));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSimulation()}
+     * @return a future of the simulation
+     */
+    default CompletableFuture<Simulation> getSimulationAsync() {
+        return CompletableFuture.supplyAsync(this::getSimulation);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteSimulation()}
+     * @return a future which completes when the simulation is deleted
+     */
+    default CompletableFuture<Void> deleteSimulationAsync() {
+        return CompletableFuture.runAsync(this::deleteSimulation);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getJournal()}
+     * @return a future of the journal
+     */
+    default CompletableFuture<Journal> getJournalAsync() {
+        return CompletableFuture.supplyAsync(this::getJournal);
+    }
+
+    /**
+     * Asynchronous variant of {@link #searchJournal(Request)}
+     * @param request the request matcher to search for
+     * @return a future of the matching journal entries
+     */
+    default CompletableFuture<Journal> searchJournalAsync(Request request) {
+        return CompletableFuture.supplyAsync(() -> searchJournal(request));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteJournal()}
+     * @return a future which completes when the journal is deleted
+     */
+    default CompletableFuture<Void> deleteJournalAsync() {
+        return CompletableFuture.runAsync(this::deleteJournal);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getConfigInfo()}
+     * @return a future of the config information
+     */
+    default CompletableFuture<HoverflyInfoView> getConfigInfoAsync() {
+        return CompletableFuture.supplyAsync(this::getConfigInfo);
+    }
+
+    /**
+     * Asynchronous variant of {@link #setDestination(String)}
+     * @param destination the destination setting
+     * @return a future which completes when the destination is set
+     */
+    default CompletableFuture<Void> setDestinationAsync(String destination) {
+        return CompletableFuture.runAsync(() -> setDestination(destination));
+    }
+
+    /**
+     * Asynchronous variant of {@link #setMode(HoverflyMode)}
+     * @param mode {@link HoverflyMode}
+     * @return a future which completes when the mode is updated
+     */
+    default CompletableFuture<Void> setModeAsync(HoverflyMode mode) {
+        return CompletableFuture.runAsync(() -> setMode(mode));
+    }
+
     /**
      * Static factory method for creating a {@link Builder}
      * @return a builder for HoverflyClient
@@ -74,6 +200,7 @@ public interface HoverflyClient {
         private String host = HoverflyConstants.LOCALHOST;
         private int port = HoverflyConstants.DEFAULT_ADMIN_PORT;
         private String authToken = null;
+        private boolean requestCompression = false;
 
         Builder() {
         }
@@ -102,8 +229,18 @@ public interface HoverflyClient {
             return this;
         }
 
+        /**
+         * Compress request bodies with gzip, which reduces the bandwidth used to import large simulations into a remote Hoverfly.
+         * Only enable it if the admin API, or a proxy in front of it, accepts gzip encoded requests.
+         * @return this Builder for further customizations
+         */
+        public Builder withRequestCompression() {
+            this.requestCompression = true;
+            return this;
+        }
+
         public HoverflyClient build() {
-            return new OkHttpHoverflyClient(scheme, host, port, authToken);
+            return new OkHttpHoverflyClient(scheme, host, port, authToken, requestCompression);
         }
     }
 }
@@ -0,0 +1,112 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the entries of a journal response one at a time with a streaming parser, so only the entry being read is held in memory.
+ * The underlying stream is closed once the last entry has been read, or when the iterator is closed.
+ */
+class JournalEntryIterator implements Iterator<JournalEntry>, Closeable {
+
+    private static final String JOURNAL_FIELD = "journal";
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private boolean hasNext;
+
+    JournalEntryIterator(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+        try {
+            this.hasNext = moveToJournalArray() && advance();
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+        if (!hasNext) {
+            parser.close();
+        }
+    }
+
+    /**
+     * Wraps the iterator in a sequential stream, which closes the iterator when it is closed
+     */
+    Stream<JournalEntry> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public JournalEntry next() {
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        try {
+            final JournalEntry entry = objectMapper.readValue(parser, JournalEntry.class);
+            hasNext = advance();
+            if (!hasNext) {
+                parser.close();
+            }
+            return entry;
+        } catch (IOException e) {
+            close();
+            throw new HoverflyClientException("Failed to read journal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        hasNext = false;
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // Nothing more is read from the stream
+        }
+    }
+
+    // Positions the parser on the start of the journal array, skipping any other fields such as paging information
+    private boolean moveToJournalArray() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a journal object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (JOURNAL_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    // Moves to the start of the next entry, returning false at the end of the array
+    private boolean advance() throws IOException {
+        final JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            return true;
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new IOException("Unexpected journal entry: " + token);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * A request body which serializes an object as JSON straight into the request sink, instead of building the whole document in memory first
+ */
+class JsonRequestBody extends RequestBody {
+
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final ObjectMapper objectMapper;
+    private final Object data;
+
+    JsonRequestBody(ObjectMapper objectMapper, Object data) {
+        this.objectMapper = objectMapper;
+        this.data = data;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON;
+    }
+
+    @Override
+    public long contentLength() {
+        // Unknown until serialized, so the body is sent with chunked transfer encoding
+        return -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(sink.outputStream())) {
+            // The sink belongs to OkHttp
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, data);
+        }
+    }
+}
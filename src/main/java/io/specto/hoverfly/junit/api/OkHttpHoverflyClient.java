@@ -12,10 +12,14 @@ import io.specto.hoverfly.junit.core.model.*;
 import okhttp3.*;
 import okhttp3.Request;
 import okhttp3.Response;
+import okio.Okio;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 class OkHttpHoverflyClient implements HoverflyClient {
 
@@ -36,10 +40,17 @@ class OkHttpHoverflyClient implements HoverflyClient {
     private HttpUrl baseUrl;
 
     OkHttpHoverflyClient(String scheme, String host, int port, String authToken) {
+        this(scheme, host, port, authToken, false);
+    }
+
+    OkHttpHoverflyClient(String scheme, String host, int port, String authToken, boolean requestCompression) {
         OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
         if (authToken != null ) {
             clientBuilder.addInterceptor(new AuthHeaderInterceptor(authToken));
         }
+        if (requestCompression) {
+            clientBuilder.addInterceptor(new GzipRequestInterceptor());
+        }
         this.client = clientBuilder.build();
         this.baseUrl = new HttpUrl.Builder()
                 .scheme(scheme)
@@ -52,7 +63,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     public void setSimulation(Simulation simulation) {
         try {
             final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
-            final RequestBody body = createRequestBody(simulation);
+            final RequestBody body = createStreamingRequestBody(simulation);
             final Request request = builder.put(body).build();
             exchange(request);
         } catch (Exception e) {
@@ -85,6 +96,21 @@ class OkHttpHoverflyClient implements HoverflyClient {
         }
     }
 
+    @Override
+    public void exportSimulation(OutputStream outputStream) {
+        try {
+            final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
+            final Request request = builder.get().build();
+            try (Response response = client.newCall(request).execute()) {
+                onFailure(response);
+                response.body().source().readAll(Okio.sink(outputStream));
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Failed to export simulation: {}", e.getMessage());
+            throw new HoverflyClientException("Failed to export simulation: " + e.getMessage());
+        }
+    }
+
     @Override
     public Journal getJournal() {
         try {
@@ -97,6 +123,24 @@ class OkHttpHoverflyClient implements HoverflyClient {
         }
     }
 
+    @Override
+    public Stream<JournalEntry> streamJournal() {
+        Response response = null;
+        try {
+            final Request.Builder builder = createRequestBuilderWithUrl(JOURNAL_PATH);
+            final Request request = builder.get().build();
+            response = client.newCall(request).execute();
+            onFailure(response);
+            return new JournalEntryIterator(OBJECT_MAPPER, response.body().byteStream()).stream();
+        } catch (Exception e) {
+            if (response != null) {
+                response.close();
+            }
+            LOGGER.warn("Failed to stream journal: {}", e.getMessage());
+            throw new HoverflyClientException("Failed to stream journal: " + e.getMessage());
+        }
+    }
+
     @Override
     public Journal searchJournal(io.specto.hoverfly.junit.core.model.Request requestMatcher) {
         try {
@@ -174,6 +218,69 @@ class OkHttpHoverflyClient implements HoverflyClient {
         return isHealthy;
     }
 
+    @Override
+    public CompletableFuture<Void> setSimulationAsync(Simulation simulation) {
+        return enqueue("set simulation",
+                () -> createRequestBuilderWithUrl(SIMULATION_PATH).put(createStreamingRequestBody(simulation)).build(),
+                response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Simulation> getSimulationAsync() {
+        return enqueue("get simulation",
+                () -> createRequestBuilderWithUrl(SIMULATION_PATH).get().build(),
+                response -> readBody(response, Simulation.class));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSimulationAsync() {
+        return enqueue("delete simulation",
+                () -> createRequestBuilderWithUrl(SIMULATION_PATH).delete().build(),
+                response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Journal> getJournalAsync() {
+        return enqueue("get journal",
+                () -> createRequestBuilderWithUrl(JOURNAL_PATH).get().build(),
+                response -> readBody(response, Journal.class));
+    }
+
+    @Override
+    public CompletableFuture<Journal> searchJournalAsync(io.specto.hoverfly.junit.core.model.Request requestMatcher) {
+        return enqueue("search journal",
+                () -> createRequestBuilderWithUrl(JOURNAL_PATH).post(createRequestBody(new JournalSearchCommand(requestMatcher))).build(),
+                response -> readBody(response, Journal.class));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteJournalAsync() {
+        return enqueue("delete journal",
+                () -> createRequestBuilderWithUrl(JOURNAL_PATH).delete().build(),
+                response -> null);
+    }
+
+    @Override
+    public CompletableFuture<HoverflyInfoView> getConfigInfoAsync() {
+        return enqueue("get config information",
+                () -> createRequestBuilderWithUrl(INFO_PATH).get().build(),
+                response -> readBody(response, HoverflyInfoView.class));
+    }
+
+    @Override
+    public CompletableFuture<Void> setDestinationAsync(String destination) {
+        return enqueue("set destination",
+                () -> createRequestBuilderWithUrl(DESTINATION_PATH).put(createRequestBody(new DestinationCommand(destination))).build(),
+                response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setModeAsync(HoverflyMode mode) {
+        return enqueue("set mode",
+                () -> createRequestBuilderWithUrl(MODE_PATH).put(createRequestBody(new ModeCommand(mode))).build(),
+                response -> null);
+    }
+
     private void putModeRequest(ModeCommand modeCommand) {
         try {
             final RequestBody body = createRequestBody(modeCommand);
@@ -201,6 +308,12 @@ class OkHttpHoverflyClient implements HoverflyClient {
     }
 
 
+    // Serialize object into the request sink as it is sent, for large payloads such as simulations
+    private RequestBody createStreamingRequestBody(Object data) {
+        return new JsonRequestBody(OBJECT_MAPPER, data);
+    }
+
+
     // Deserialize response body on success
     private <T> T exchange(Request request, Class<T> clazz) throws IOException {
         try (Response response = client.newCall(request).execute()) {
@@ -217,6 +330,45 @@ class OkHttpHoverflyClient implements HoverflyClient {
         }
     }
 
+    // Send request on the OkHttp dispatcher, completing the future from the callback thread
+    private <T> CompletableFuture<T> enqueue(String action, RequestFactory requestFactory, ResponseReader<T> responseReader) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Request request;
+        try {
+            request = requestFactory.create();
+        } catch (IOException e) {
+            future.completeExceptionally(asyncFailure(action, e));
+            return future;
+        }
+
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(asyncFailure(action, e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response r = response) {
+                    OkHttpHoverflyClient.this.onFailure(r);
+                    future.complete(responseReader.read(r));
+                } catch (Exception e) {
+                    future.completeExceptionally(asyncFailure(action, e));
+                }
+            }
+        });
+        return future;
+    }
+
+    private static HoverflyClientException asyncFailure(String action, Exception e) {
+        LOGGER.warn("Failed to {}: {}", action, e.getMessage());
+        return new HoverflyClientException("Failed to " + action + ": " + e.getMessage());
+    }
+
+    private static <T> T readBody(Response response, Class<T> clazz) throws IOException {
+        return OBJECT_MAPPER.readValue(response.body().string(), clazz);
+    }
+
     // Handle non-successful response
     private void onFailure(Response response) throws IOException {
         if (!response.isSuccessful()) {
@@ -224,4 +376,14 @@ class OkHttpHoverflyClient implements HoverflyClient {
             throw new IOException(errorResponse);
         }
     }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        Request create() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(Response response) throws IOException;
+    }
 }
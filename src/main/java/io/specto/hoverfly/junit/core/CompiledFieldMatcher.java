@@ -0,0 +1,346 @@
+package io.specto.hoverfly.junit.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.specto.hoverfly.junit.core.model.FieldMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link FieldMatcher} compiled for repeated evaluation: glob and regex patterns, JSONPath and XPath expressions, and expected JSON and
+ * XML documents are compiled or parsed once, rather than on every comparison. Every matcher which is set has to match, and a matcher which
+ * cannot be compiled, such as an invalid regex or a JSONPath filter expression, never matches. Instances are immutable and safe to share
+ * between threads.
+ */
+class CompiledFieldMatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledFieldMatcher.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final CompiledFieldMatcher ANY = new CompiledFieldMatcher();
+
+    private final String exactMatch;
+    private final Pattern globMatch;
+    private final Pattern regexMatch;
+    private final JsonNode jsonMatch;
+    private final JsonPath jsonPathMatch;
+    private final Document xmlMatch;
+    private final ThreadLocal<XPathExpression> xpathMatch;
+    private final boolean invalid;
+
+    private CompiledFieldMatcher() {
+        this.exactMatch = null;
+        this.globMatch = null;
+        this.regexMatch = null;
+        this.jsonMatch = null;
+        this.jsonPathMatch = null;
+        this.xmlMatch = null;
+        this.xpathMatch = null;
+        this.invalid = false;
+    }
+
+    private CompiledFieldMatcher(FieldMatcher matcher) {
+        boolean invalid = false;
+        Pattern regexMatch = null;
+        JsonNode jsonMatch = null;
+        JsonPath jsonPathMatch = null;
+        Document xmlMatch = null;
+        ThreadLocal<XPathExpression> xpathMatch = null;
+        try {
+            regexMatch = matcher.getRegexMatch() == null ? null : Pattern.compile(matcher.getRegexMatch());
+            jsonMatch = matcher.getJsonMatch() == null ? null : OBJECT_MAPPER.readTree(matcher.getJsonMatch());
+            jsonPathMatch = matcher.getJsonPathMatch() == null ? null : JsonPath.compile(matcher.getJsonPathMatch());
+            xmlMatch = matcher.getXmlMatch() == null ? null : parseXml(matcher.getXmlMatch());
+            xpathMatch = matcher.getXpathMatch() == null ? null : compileXPath(matcher.getXpathMatch());
+        } catch (Exception e) {
+            LOGGER.warn("Request matcher {} cannot be matched locally: {}", matcher, e.getMessage());
+            invalid = true;
+        }
+        this.exactMatch = matcher.getExactMatch();
+        this.globMatch = matcher.getGlobMatch() == null ? null : globToRegex(matcher.getGlobMatch());
+        this.regexMatch = regexMatch;
+        this.jsonMatch = jsonMatch;
+        this.jsonPathMatch = jsonPathMatch;
+        this.xmlMatch = xmlMatch;
+        this.xpathMatch = xpathMatch;
+        this.invalid = invalid;
+    }
+
+    /**
+     * Compiles a field matcher, where a null matcher matches any value
+     */
+    static CompiledFieldMatcher compile(FieldMatcher matcher) {
+        return matcher == null ? ANY : new CompiledFieldMatcher(matcher);
+    }
+
+    /**
+     * Whether the value of a request field matches, where a null value is treated as empty
+     */
+    boolean matches(CharSequence value) {
+        if (this == ANY) {
+            return true;
+        }
+        if (invalid) {
+            return false;
+        }
+        final CharSequence actual = value == null ? "" : value;
+        if (exactMatch != null && !exactMatch.contentEquals(actual)) {
+            return false;
+        }
+        if (globMatch != null && !globMatch.matcher(actual).matches()) {
+            return false;
+        }
+        if (regexMatch != null && !regexMatch.matcher(actual).find()) {
+            return false;
+        }
+        if (jsonMatch == null && jsonPathMatch == null && xmlMatch == null && xpathMatch == null) {
+            return true;
+        }
+        return matchesDocument(actual.toString());
+    }
+
+    boolean isExactMatchOnly() {
+        return exactMatch != null && globMatch == null && regexMatch == null && jsonMatch == null && jsonPathMatch == null
+                && xmlMatch == null && xpathMatch == null && !invalid;
+    }
+
+    /**
+     * Whether every matcher which is set could be compiled, so this matches the way Hoverfly would
+     */
+    boolean isCompiled() {
+        return !invalid;
+    }
+
+    String getExactMatch() {
+        return exactMatch;
+    }
+
+    private boolean matchesDocument(String actual) {
+        try {
+            if (jsonMatch != null || jsonPathMatch != null) {
+                final JsonNode json = OBJECT_MAPPER.readTree(actual);
+                if (json == null || jsonMatch != null && !jsonMatch.equals(json)
+                        || jsonPathMatch != null && jsonPathMatch.evaluate(json).isEmpty()) {
+                    return false;
+                }
+            }
+            if (xmlMatch != null || xpathMatch != null) {
+                final Document xml = parseXml(actual);
+                if (xmlMatch != null && !xmlMatch.isEqualNode(xml)
+                        || xpathMatch != null && ((NodeList) xpathMatch.get().evaluate(xml, XPathConstants.NODESET)).getLength() == 0) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            LOGGER.debug("Request body is not a matching document: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    static Pattern globToRegex(String glob) {
+        final String regex = Arrays.stream(glob.split("\\*", -1))
+                .map(part -> part.isEmpty() ? "" : Pattern.quote(part))
+                .collect(Collectors.joining(".*"));
+        return Pattern.compile(regex, Pattern.DOTALL);
+    }
+
+    // XPath expressions are not thread safe, so each thread compiles its own
+    private static ThreadLocal<XPathExpression> compileXPath(String expression) throws XPathExpressionException {
+        XPathFactory.newInstance().newXPath().compile(expression);
+        return ThreadLocal.withInitial(() -> {
+            try {
+                return XPathFactory.newInstance().newXPath().compile(expression);
+            } catch (XPathExpressionException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    static Document parseXml(String xml) throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        // A fully expanded DOM can be read by several threads at once
+        factory.setFeature("http://apache.org/xml/features/dom/defer-node-expansion", false);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setIgnoringComments(true);
+        final Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        removeWhitespace(document);
+        document.normalizeDocument();
+        return document;
+    }
+
+    // Whitespace between elements is formatting only, as Hoverfly minifies XML before comparing
+    private static void removeWhitespace(Node node) {
+        final NodeList children = node.getChildNodes();
+        for (int i = children.getLength() - 1; i >= 0; i--) {
+            final Node child = children.item(i);
+            if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().trim().isEmpty()) {
+                node.removeChild(child);
+            } else {
+                removeWhitespace(child);
+            }
+        }
+    }
+
+    /**
+     * The subset of JSONPath used for matching request bodies: child ({@code .name} or {@code ['name']}), array index ({@code [0]}),
+     * wildcard ({@code .*} or {@code [*]}) and recursive descent ({@code ..name}) selectors. A path matches if it selects any node.
+     */
+    static class JsonPath {
+
+        private final List<Selector> selectors;
+
+        private JsonPath(List<Selector> selectors) {
+            this.selectors = selectors;
+        }
+
+        static JsonPath compile(String expression) {
+            final String path = expression.trim();
+            if (!path.startsWith("$")) {
+                throw new IllegalArgumentException("JSONPath must start with $: " + expression);
+            }
+            final List<Selector> selectors = new ArrayList<>();
+            int i = 1;
+            while (i < path.length()) {
+                final char c = path.charAt(i);
+                if (path.startsWith("..", i)) {
+                    final int end = endOfName(path, i + 2);
+                    selectors.add(new Selector(Selector.Type.DESCENDANT, path.substring(i + 2, end), -1));
+                    i = end;
+                } else if (c == '.') {
+                    final int end = endOfName(path, i + 1);
+                    final String name = path.substring(i + 1, end);
+                    selectors.add(name.equals("*") ? new Selector(Selector.Type.WILDCARD, null, -1) : new Selector(Selector.Type.CHILD, name, -1));
+                    i = end;
+                } else if (c == '[') {
+                    final int end = path.indexOf(']', i);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Unclosed bracket in JSONPath: " + expression);
+                    }
+                    selectors.add(bracketSelector(path.substring(i + 1, end).trim(), expression));
+                    i = end + 1;
+                } else {
+                    throw new IllegalArgumentException("Unsupported JSONPath: " + expression);
+                }
+            }
+            return new JsonPath(selectors);
+        }
+
+        List<JsonNode> evaluate(JsonNode root) {
+            List<JsonNode> nodes = Collections.singletonList(root);
+            for (Selector selector : selectors) {
+                final List<JsonNode> selected = new ArrayList<>();
+                for (JsonNode node : nodes) {
+                    selector.select(node, selected);
+                }
+                nodes = selected;
+            }
+            return nodes;
+        }
+
+        private static int endOfName(String path, int start) {
+            int end = start;
+            while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                end++;
+            }
+            if (end == start) {
+                throw new IllegalArgumentException("Missing name in JSONPath: " + path);
+            }
+            return end;
+        }
+
+        private static Selector bracketSelector(String content, String expression) {
+            if (content.equals("*")) {
+                return new Selector(Selector.Type.WILDCARD, null, -1);
+            }
+            if (content.length() >= 2 && (content.startsWith("'") && content.endsWith("'") || content.startsWith("\"") && content.endsWith("\""))) {
+                return new Selector(Selector.Type.CHILD, content.substring(1, content.length() - 1), -1);
+            }
+            try {
+                return new Selector(Selector.Type.INDEX, null, Integer.parseInt(content));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported JSONPath: " + expression);
+            }
+        }
+
+        private static class Selector {
+
+            enum Type { CHILD, INDEX, WILDCARD, DESCENDANT }
+
+            private final Type type;
+            private final String name;
+            private final int index;
+
+            Selector(Type type, String name, int index) {
+                this.type = type;
+                this.name = name;
+                this.index = index;
+            }
+
+            void select(JsonNode node, List<JsonNode> selected) {
+                switch (type) {
+                    case CHILD:
+                        if (node.isObject() && node.has(name)) {
+                            selected.add(node.get(name));
+                        }
+                        break;
+                    case INDEX:
+                        if (node.isArray()) {
+                            final int i = index < 0 ? node.size() + index : index;
+                            if (i >= 0 && i < node.size()) {
+                                selected.add(node.get(i));
+                            }
+                        }
+                        break;
+                    case WILDCARD:
+                        node.elements().forEachRemaining(selected::add);
+                        break;
+                    case DESCENDANT:
+                        if (name.equals("*")) {
+                            addDescendants(node, selected);
+                        } else {
+                            addDescendants(node, name, selected);
+                        }
+                        break;
+                }
+            }
+
+            private static void addDescendants(JsonNode node, List<JsonNode> selected) {
+                for (Iterator<JsonNode> it = node.elements(); it.hasNext(); ) {
+                    final JsonNode child = it.next();
+                    selected.add(child);
+                    addDescendants(child, selected);
+                }
+            }
+
+            // Unlike JsonNode.findValues, also looks inside matching values, as a name can repeat at any depth
+            private static void addDescendants(JsonNode node, String name, List<JsonNode> selected) {
+                if (node.isObject() && node.has(name)) {
+                    selected.add(node.get(name));
+                }
+                for (Iterator<JsonNode> it = node.elements(); it.hasNext(); ) {
+                    addDescendants(it.next(), name, selected);
+                }
+            }
+        }
+    }
+}
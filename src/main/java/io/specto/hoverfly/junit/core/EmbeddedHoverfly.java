@@ -0,0 +1,332 @@
+package io.specto.hoverfly.junit.core;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.api.HoverflyClientException;
+import io.specto.hoverfly.junit.api.model.ModeArguments;
+import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.GlobalActions;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+import io.specto.hoverfly.junit.core.model.Response;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okio.Okio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
+
+/**
+ * A simulation engine running in the JVM, which serves the pairs of a simulation as an HTTP proxy instead of the Hoverfly binary.
+ * It is controlled directly through the {@link HoverflyClient} interface, and only supports simulate mode over plain HTTP.
+ * Delays with a {@link DelayDistribution} are sampled from it for each response. Like Hoverfly, the journal only keeps the most recent
+ * requests.
+ */
+class EmbeddedHoverfly implements HoverflyClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedHoverfly.class);
+    private static final int NO_MATCH_STATUS = 502;
+    // The default journal size of Hoverfly
+    private static final int DEFAULT_JOURNAL_CAPACITY = 1000;
+    private static final String NO_MATCH_MESSAGE = "Hoverfly Error!\n\nThere was an error when matching\n\n"
+            + "Got error: Could not find a match for request, create or record a valid matcher first!";
+
+    // Set by the server from the actual body written
+    private static final List<String> FRAMING_HEADERS = Arrays.asList("content-length", "transfer-encoding");
+
+    private final ConcurrentLinkedQueue<JournalEntry> journal = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger journalSize = new AtomicInteger();
+    private final int journalCapacity;
+    private volatile CompiledSimulation simulation = new CompiledSimulation(emptySimulation());
+    private volatile String destination = ".";
+    private HttpServer server;
+    private ExecutorService executor;
+
+    EmbeddedHoverfly() {
+        this(DEFAULT_JOURNAL_CAPACITY);
+    }
+
+    /**
+     * @param journalCapacity the number of requests the journal keeps, after which the oldest are dropped
+     */
+    EmbeddedHoverfly(int journalCapacity) {
+        this.journalCapacity = journalCapacity;
+    }
+
+    /**
+     * Starts serving on the given port of the loopback interface
+     */
+    synchronized void start(int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Embedded Hoverfly is already running.");
+        }
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(HoverflyConstants.LOCALHOST, port), 0);
+        // Delayed responses block their thread, so they must not hold up other requests
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "embedded-hoverfly-" + port);
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/", this::handle);
+        httpServer.start();
+        server = httpServer;
+        LOGGER.info("Embedded Hoverfly is serving simulations on port {}", port);
+    }
+
+    synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+    }
+
+    synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    @Override
+    public void setSimulation(Simulation simulation) {
+        this.simulation = new CompiledSimulation(simulation);
+    }
+
+    @Override
+    public Simulation getSimulation() {
+        return simulation.simulation;
+    }
+
+    @Override
+    public void deleteSimulation() {
+        setSimulation(emptySimulation());
+    }
+
+    @Override
+    public Journal getJournal() {
+        return new Journal(new ArrayList<>(journal));
+    }
+
+    @Override
+    public Stream<JournalEntry> streamJournal() {
+        return journal.stream();
+    }
+
+    @Override
+    public Journal searchJournal(Request request) {
+        final Predicate<RequestDetails> matcher = SimulationMatcher.compile(request);
+        return new Journal(journal.stream()
+                .filter(entry -> matcher.test(entry.getRequest()))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteJournal() {
+        while (journal.poll() != null) {
+            journalSize.decrementAndGet();
+        }
+    }
+
+    @Override
+    public HoverflyInfoView getConfigInfo() {
+        return new HoverflyInfoView(destination, SIMULATE.getValue(), null, null, null);
+    }
+
+    @Override
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public void setMode(HoverflyMode mode) {
+        if (mode != SIMULATE) {
+            throw new HoverflyClientException("Embedded Hoverfly only supports simulate mode, not " + mode.getValue());
+        }
+    }
+
+    @Override
+    public void setMode(HoverflyMode mode, ModeArguments modeArguments) {
+        setMode(mode);
+    }
+
+    @Override
+    public boolean getHealth() {
+        return isRunning();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        final long started = System.nanoTime();
+        final LocalDateTime timeStarted = LocalDateTime.now();
+        try {
+            final RequestDetails request = toRequestDetails(exchange);
+            final CompiledSimulation simulation = this.simulation;
+            final Optional<RequestResponsePair> pair = simulation.matcher.match(request);
+            final Response response = pair.map(RequestResponsePair::getResponse)
+                    .orElseGet(() -> new Response(NO_MATCH_STATUS, NO_MATCH_MESSAGE, false, false, Collections.emptyMap()));
+
+            if (pair.isPresent()) {
+                simulation.delay(request);
+            } else {
+                LOGGER.debug("No simulation matched {} {}://{}{}", request.getMethod(), request.getScheme(), request.getDestination(), request.getPath());
+            }
+
+            // Journal before responding, so the request can be verified as soon as the client has the response
+            addToJournal(new JournalEntry(request, response, SIMULATE.getValue(), timeStarted,
+                    (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)));
+            writeResponse(exchange, response);
+        } catch (InterruptedException e) {
+            // Respond before restoring the interrupt, which would close the connection while writing
+            sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Embedded Hoverfly failed to serve request", e);
+            sendError(exchange, NO_MATCH_STATUS);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Responds with an error status, unless the response headers have already been sent, in which case the client only gets a truncated
+     * response
+     */
+    private static void sendError(HttpExchange exchange, int status) {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+        try {
+            exchange.sendResponseHeaders(status, -1);
+        } catch (IOException e) {
+            LOGGER.debug("Failed to send error response: {}", e.getMessage());
+        }
+    }
+
+    private static RequestDetails toRequestDetails(HttpExchange exchange) throws IOException {
+        final URI uri = exchange.getRequestURI();
+        // Proxied requests have an absolute URI, requests sent to the port directly only carry the host header
+        final String destination = uri.getRawAuthority() != null ? uri.getRawAuthority() : exchange.getRequestHeaders().getFirst("Host");
+        final String scheme = uri.getScheme() != null ? uri.getScheme() : HoverflyConstants.HTTP;
+        final String body = Okio.buffer(Okio.source(exchange.getRequestBody())).readString(StandardCharsets.UTF_8);
+        final Map<String, List<String>> headers = new HashMap<>(exchange.getRequestHeaders());
+
+        return new RequestDetails(scheme, destination, uri.getPath(), uri.getRawQuery() == null ? "" : uri.getRawQuery(),
+                body, exchange.getRequestMethod(), headers);
+    }
+
+    private void addToJournal(JournalEntry entry) {
+        journal.add(entry);
+        if (journalSize.incrementAndGet() > journalCapacity && journal.poll() != null) {
+            journalSize.decrementAndGet();
+        }
+    }
+
+    private static void writeResponse(HttpExchange exchange, Response response) throws IOException {
+        if (response.getHeaders() != null) {
+            response.getHeaders().entrySet().stream()
+                    .filter(header -> !FRAMING_HEADERS.contains(header.getKey().toLowerCase()))
+                    .forEach(header -> exchange.getResponseHeaders().put(header.getKey(), new ArrayList<>(header.getValue())));
+        }
+
+        final byte[] body;
+        if (response.getBody() == null) {
+            body = new byte[0];
+        } else if (response.isEncodedBody()) {
+            body = Base64.getDecoder().decode(response.getBody());
+        } else {
+            body = response.getBody().getBytes(StandardCharsets.UTF_8);
+        }
+
+        final boolean noBody = body.length == 0 || "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(response.getStatus(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private static Simulation emptySimulation() {
+        return new Simulation(null, null);
+    }
+
+    /**
+     * A simulation with its pairs and delay url patterns compiled, so that nothing is compiled while serving requests
+     */
+    private static final class CompiledSimulation {
+
+        private final Simulation simulation;
+        private final SimulationMatcher matcher;
+        private final List<CompiledDelay> delays;
+
+        private CompiledSimulation(Simulation simulation) {
+            this.simulation = simulation;
+            this.matcher = new SimulationMatcher(simulation.getHoverflyData().getPairs());
+            final GlobalActions globalActions = simulation.getHoverflyData().getGlobalActions();
+            this.delays = globalActions == null || globalActions.getDelays() == null ? Collections.emptyList()
+                    : globalActions.getDelays().stream().map(CompiledDelay::new).collect(Collectors.toList());
+        }
+
+        private void delay(RequestDetails request) throws InterruptedException {
+            final String url = request.getDestination() + request.getPath();
+            for (CompiledDelay delay : delays) {
+                if (delay.matches(url, request.getMethod())) {
+                    final DelayDistribution distribution = delay.settings.getDistribution();
+                    Thread.sleep(distribution == null ? delay.settings.getDelay() : distribution.sample(ThreadLocalRandom.current()));
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class CompiledDelay {
+
+        private final DelaySettings settings;
+        private final Pattern urlPattern;
+
+        private CompiledDelay(DelaySettings settings) {
+            this.settings = settings;
+            try {
+                this.urlPattern = Pattern.compile(settings.getUrlPattern());
+            } catch (PatternSyntaxException e) {
+                throw new HoverflyClientException("Invalid delay url pattern: " + settings.getUrlPattern());
+            }
+        }
+
+        private boolean matches(String url, String method) {
+            return urlPattern.matcher(url).find() && (settings.getHttpMethod() == null || settings.getHttpMethod().equalsIgnoreCase(method));
+        }
+    }
+}
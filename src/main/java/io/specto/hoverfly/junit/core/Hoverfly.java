@@ -12,6 +12,11 @@
  */
 package io.specto.hoverfly.junit.core;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import io.specto.hoverfly.junit.api.HoverflyClient;
@@ -19,14 +24,23 @@ import io.specto.hoverfly.junit.api.HoverflyClientException;
 import io.specto.hoverfly.junit.api.model.ModeArguments;
 import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
 import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
+import io.specto.hoverfly.junit.core.config.PortAllocator;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
 import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
 import io.specto.hoverfly.junit.core.model.Request;
 import io.specto.hoverfly.junit.core.model.RequestResponsePair;
 import io.specto.hoverfly.junit.core.model.Simulation;
 import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
 import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import io.specto.hoverfly.junit.stats.JournalStats;
+import io.specto.hoverfly.junit.verification.HoverflyVerificationError;
 import io.specto.hoverfly.junit.verification.VerificationCriteria;
 import io.specto.hoverfly.junit.verification.VerificationData;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.HashingSink;
+import okio.Okio;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,17 +48,27 @@ import org.zeroturnaround.exec.ProcessExecutor;
 import org.zeroturnaround.exec.StartedProcess;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.specto.hoverfly.junit.core.HoverflyConfig.configs;
 import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
+import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
 import static io.specto.hoverfly.junit.core.HoverflyUtils.checkPortInUse;
+import static io.specto.hoverfly.junit.core.config.PortAllocator.isAvailable;
 import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.any;
 import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeastOnce;
 import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
@@ -57,20 +81,31 @@ import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
 public class Hoverfly implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Hoverfly.class);
-    private static final ObjectWriter JSON_PRETTY_PRINTER = new ObjectMapper().writerWithDefaultPrettyPrinter();
-    private static final int BOOT_TIMEOUT_SECONDS = 10;
-    private static final int RETRY_BACKOFF_INTERVAL_MS = 100;
-
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writer();
+    private static final String DEFAULT_DESTINATION = ".";
+    private static final int MAX_START_ATTEMPTS = 3;
 
     private final HoverflyConfiguration hoverflyConfig;
     private final HoverflyMode hoverflyMode;
     private final ProxyConfigurer proxyConfigurer;
+    private final HoverflyProxySelector proxySelector;
     private final SslConfigurer sslConfigurer = new SslConfigurer();
-    private final HoverflyClient hoverflyClient;
-
-    private final TempFileManager tempFileManager = new TempFileManager();
+    private final ReadinessProbe readinessProbe;
+    private final HoverflyProcessPool.Key processPoolKey;
+    private final EmbeddedHoverfly embeddedHoverfly;
+    private final boolean useDefaultSslCert;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private HoverflyClient hoverflyClient;
+
+    private TempFileManager tempFileManager = new TempFileManager();
     private StartedProcess startedProcess;
-    private boolean useDefaultSslCert = true;
+    private HoverflyProcessPool.PooledProcess pooledProcess;
+    // Ports which belong to a pooled process are released by the pool, not by this instance
+    private boolean poolOwnsPorts;
+    private HoverflyMode currentMode;
+    private ByteString importedSimulationFingerprint;
+    private CompletableFuture<Void> teardown = CompletableFuture.completedFuture(null);
 
     /**
      * Instantiates {@link Hoverfly}
@@ -81,14 +116,17 @@ public class Hoverfly implements AutoCloseable {
     public Hoverfly(HoverflyConfig hoverflyConfigBuilder, HoverflyMode hoverflyMode) {
         hoverflyConfig = hoverflyConfigBuilder.build();
         this.proxyConfigurer = new ProxyConfigurer(hoverflyConfig);
-        this.hoverflyClient = HoverflyClient.custom()
-                .scheme(hoverflyConfig.getScheme())
-                .host(hoverflyConfig.getHost())
-                .port(hoverflyConfig.getAdminPort())
-                .withAuthToken()
-                .build();
+        this.proxySelector = new HoverflyProxySelector(hoverflyConfig.isProxyLocalHost(),
+                hoverflyConfig.isRemoteInstance() ? hoverflyConfig.getHost() : null, hoverflyConfig.getProxiedHosts());
+        this.embeddedHoverfly = hoverflyConfig.isEmbedded() ? new EmbeddedHoverfly() : null;
+        this.useDefaultSslCert = StringUtils.isBlank(hoverflyConfig.getSslKeyPath());
+        this.hoverflyClient = createHoverflyClient();
         this.hoverflyMode = hoverflyMode;
-
+        this.currentMode = hoverflyMode;
+        this.readinessProbe = new ReadinessProbe(hoverflyConfig.getHealthCheckTimeout());
+        // Pooled processes are matched on the ports requested by the user, not the ones assigned during validation
+        this.processPoolKey = new HoverflyProcessPool.Key(hoverflyConfigBuilder.proxyPort, hoverflyConfigBuilder.adminPort,
+                hoverflyConfig.getSslCertificatePath(), hoverflyConfig.getSslKeyPath());
     }
 
     /**
@@ -108,45 +146,120 @@ public class Hoverfly implements AutoCloseable {
      * </ol>
      */
     public void start() {
+        start(null);
+    }
 
-        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    /**
+     * Starts Hoverfly as {@link #start()} does, and imports a simulation into it. The simulation is created and the SSL context is
+     * built while Hoverfly boots, and the simulation, destination and mode are sent to Hoverfly together once it is healthy, so this is
+     * quicker than starting Hoverfly and then importing the simulation. How long each step took is logged.
+     *
+     * @param simulationSource the simulation to import, or null to import none
+     */
+    public void start(SimulationSource simulationSource) {
 
-        if (startedProcess != null) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            close();
+            // The JVM does not wait for the reaper thread
+            awaitTeardown();
+        }));
+
+        if (startedProcess != null || embeddedHoverfly != null && embeddedHoverfly.isRunning()) {
             LOGGER.warn("Local Hoverfly is already running.");
+            if (simulationSource != null) {
+                importSimulation(simulationSource);
+            }
             return;
         }
 
-        if (!hoverflyConfig.isRemoteInstance()) {
-            startHoverflyProcess();
-        } else {
-            resetJournal();
+        importedSimulationFingerprint = null;
+        closed.set(false);
+
+        try {
+            start(simulationSource, new StartupPipeline());
+        } catch (RuntimeException | Error e) {
+            // Otherwise the process and the leases on its ports are only given up if the caller closes the instance
+            try {
+                close();
+            } catch (RuntimeException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
         }
+    }
+
+    private void start(SimulationSource simulationSource, StartupPipeline pipeline) {
+        final CompletableFuture<Simulation> simulation = simulationSource == null
+                ? CompletableFuture.completedFuture(null) : pipeline.async("simulation", simulationSource::getSimulation);
+        final CompletableFuture<Void> sslContext = embeddedHoverfly == null
+                ? pipeline.async("ssl", this::configureSslContext) : CompletableFuture.completedFuture(null);
 
-        waitForHoverflyToBecomeHealthy();
+        pipeline.run("boot", this::boot);
 
+        final List<CompletableFuture<?>> steps = new ArrayList<>();
+        steps.add(sslContext);
         if (StringUtils.isNotBlank(hoverflyConfig.getDestination())) {
-            setDestination(hoverflyConfig.getDestination());
+            steps.add(pipeline.async("destination", () -> setDestination(hoverflyConfig.getDestination())));
         }
+        steps.add(pipeline.async("mode", () -> {
+            if (hoverflyMode == CAPTURE) {
+                hoverflyClient.setMode(hoverflyMode, new ModeArguments(hoverflyConfig.getCaptureHeaders()));
+            } else {
+                hoverflyClient.setMode(hoverflyMode);
+            }
+        }));
+        if (simulationSource != null) {
+            steps.add(simulation.thenCompose(imported -> pipeline.async("import", () -> importSimulation(imported))));
+        }
+        steps.forEach(StartupPipeline::join);
 
-        if (hoverflyMode == CAPTURE) {
-            hoverflyClient.setMode(hoverflyMode, new ModeArguments(hoverflyConfig.getCaptureHeaders()));
+        proxySelector.setProxy(hoverflyConfig.getHost(), hoverflyConfig.getProxyPort(), hoverflyConfig.getAdminPort());
+        proxySelector.setCapturing(hoverflyMode == CAPTURE);
+        if (hoverflyConfig.isProxySelector()) {
+            RoutingProxySelector.getInstance().register(proxySelector);
         } else {
-            hoverflyClient.setMode(hoverflyMode);
+            proxyConfigurer.setProxySystemProperties();
+        }
+
+        LOGGER.info("Hoverfly started in {} ms ({})", pipeline.getElapsedMillis(), pipeline);
+    }
+
+    private void boot() {
+        if (hoverflyConfig.isRemoteInstance()) {
+            resetJournal();
+            waitForHoverflyToBecomeHealthy();
+        } else if (embeddedHoverfly != null) {
+            startEmbeddedHoverfly();
+        } else if (!hoverflyConfig.isReuseProcess() || !leasePooledProcess()) {
+            startHoverflyProcess();
+        } else {
+            waitForHoverflyToBecomeHealthy();
+        }
+
+        if (hoverflyConfig.isReuseProcess() && pooledProcess == null && startedProcess != null) {
+            pooledProcess = HoverflyProcessPool.getInstance().register(processPoolKey, startedProcess, tempFileManager,
+                    hoverflyConfig.getProxyPort(), hoverflyConfig.getAdminPort());
+            poolOwnsPorts = true;
         }
+    }
 
+    private void configureSslContext() {
         if (hoverflyConfig.getProxyCaCertificate().isPresent()) {
-          sslConfigurer.setDefaultSslContext(hoverflyConfig.getProxyCaCertificate().get());
+            if (hoverflyConfig.isScopedSslContext()) {
+                sslConfigurer.initSslContext(hoverflyConfig.getProxyCaCertificate().get());
+            } else {
+                sslConfigurer.setDefaultSslContext(hoverflyConfig.getProxyCaCertificate().get());
+            }
         } else if (useDefaultSslCert) {
-            sslConfigurer.setDefaultSslContext();
+            if (hoverflyConfig.isScopedSslContext()) {
+                sslConfigurer.initSslContext();
+            } else {
+                sslConfigurer.setDefaultSslContext();
+            }
         }
-
-        proxyConfigurer.setProxySystemProperties();
     }
 
     private void startHoverflyProcess() {
-        checkPortInUse(hoverflyConfig.getProxyPort());
-        checkPortInUse(hoverflyConfig.getAdminPort());
-
         final SystemConfig systemConfig = new SystemConfigFactory().createSystemConfig();
 
         Path binaryPath = tempFileManager.copyHoverflyBinary(systemConfig);
@@ -156,10 +269,6 @@ public class Hoverfly implements AutoCloseable {
         commands.add(binaryPath.toString());
         commands.add("-db");
         commands.add("memory");
-        commands.add("-pp");
-        commands.add(String.valueOf(hoverflyConfig.getProxyPort()));
-        commands.add("-ap");
-        commands.add(String.valueOf(hoverflyConfig.getAdminPort()));
 
         if (StringUtils.isNotBlank(hoverflyConfig.getSslCertificatePath())) {
             tempFileManager.copyClassPathResource(hoverflyConfig.getSslCertificatePath(), "ca.crt");
@@ -170,26 +279,158 @@ public class Hoverfly implements AutoCloseable {
             tempFileManager.copyClassPathResource(hoverflyConfig.getSslKeyPath(), "ca.key");
             commands.add("-key");
             commands.add("ca.key");
-            useDefaultSslCert = false;
         }
 
-        try {
-            startedProcess = new ProcessExecutor()
-                    .command(commands)
-                    .redirectOutput(System.out)
-                    .directory(tempFileManager.getTempDirectory().toFile())
-                    .start();
-        } catch (IOException e) {
-            throw new IllegalStateException("Could not start Hoverfly process", e);
+        // A closed process can still be holding a fixed port until it has exited
+        if (!hoverflyConfig.isDynamicProxyPort() || !hoverflyConfig.isDynamicAdminPort()) {
+            ProcessReaper.getInstance().awaitPending();
+        }
+
+        leaseDynamicPorts();
+
+        // A dynamically allocated port can still be taken by another process before Hoverfly binds it, in which case Hoverfly
+        // exits straight away and is restarted on newly allocated ports
+        for (int attempt = 1; ; attempt++) {
+            if (hasDynamicPorts() && !(isAvailable(hoverflyConfig.getProxyPort()) && isAvailable(hoverflyConfig.getAdminPort()))) {
+                reallocateDynamicPorts();
+            }
+            checkPortInUse(hoverflyConfig.getProxyPort());
+            checkPortInUse(hoverflyConfig.getAdminPort());
+
+            final List<String> arguments = new ArrayList<>(commands);
+            arguments.add("-pp");
+            arguments.add(String.valueOf(hoverflyConfig.getProxyPort()));
+            arguments.add("-ap");
+            arguments.add(String.valueOf(hoverflyConfig.getAdminPort()));
+
+            try {
+                startedProcess = new ProcessExecutor()
+                        .command(arguments)
+                        .redirectOutput(readinessProbe.processOutput(System.out))
+                        .directory(tempFileManager.getTempDirectory().toFile())
+                        .start();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start Hoverfly process", e);
+            }
+
+            try {
+                waitForHoverflyToBecomeHealthy();
+                return;
+            } catch (IllegalStateException e) {
+                if (startedProcess.getProcess().isAlive() || !hasDynamicPorts() || attempt == MAX_START_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.warn("Hoverfly failed to start on proxy port {} and admin port {}, retrying on different ports",
+                        hoverflyConfig.getProxyPort(), hoverflyConfig.getAdminPort());
+                startedProcess = null;
+                reallocateDynamicPorts();
+            }
+        }
+    }
+
+    private void startEmbeddedHoverfly() {
+        if (hoverflyMode != SIMULATE) {
+            throw new IllegalStateException("Embedded Hoverfly only supports simulate mode, not " + hoverflyMode.getValue());
+        }
+
+        leaseDynamicPorts();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                embeddedHoverfly.start(hoverflyConfig.getProxyPort());
+                return;
+            } catch (BindException e) {
+                if (!hoverflyConfig.isDynamicProxyPort() || attempt == MAX_START_ATTEMPTS) {
+                    throw new IllegalStateException("Port is already in use: " + hoverflyConfig.getProxyPort(), e);
+                }
+                LOGGER.warn("Embedded Hoverfly failed to start on proxy port {}, retrying on a different port", hoverflyConfig.getProxyPort());
+                reallocateDynamicPorts();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start embedded Hoverfly", e);
+            }
+        }
+    }
+
+    private boolean hasDynamicPorts() {
+        return hoverflyConfig.isDynamicProxyPort() || hoverflyConfig.isDynamicAdminPort();
+    }
+
+    /**
+     * Leases the dynamic ports assigned when the configuration was built, or new ones if they are taken, such as by a previous start
+     * whose process has not exited yet or a pooled process
+     */
+    private void leaseDynamicPorts() {
+        if (!hasDynamicPorts()) {
+            return;
+        }
+        final int adminPort = hoverflyConfig.getAdminPort();
+        PortAllocator.lease(hoverflyConfig);
+        poolOwnsPorts = false;
+        if (hoverflyConfig.getAdminPort() != adminPort) {
+            hoverflyClient = createHoverflyClient();
+        }
+    }
+
+    private void reallocateDynamicPorts() {
+        PortAllocator.reallocate(hoverflyConfig, !poolOwnsPorts);
+        poolOwnsPorts = false;
+        if (hoverflyConfig.isDynamicAdminPort()) {
+            hoverflyClient = createHoverflyClient();
         }
     }
 
+    private List<Integer> getDynamicPorts() {
+        final List<Integer> ports = new ArrayList<>();
+        if (poolOwnsPorts) {
+            return ports;
+        }
+        if (hoverflyConfig.isDynamicProxyPort()) {
+            ports.add(hoverflyConfig.getProxyPort());
+        }
+        if (hoverflyConfig.isDynamicAdminPort()) {
+            ports.add(hoverflyConfig.getAdminPort());
+        }
+        return ports;
+    }
+
+    /**
+     * Adopts an idle process from the pool, pointing the configuration and admin client at its ports
+     */
+    private boolean leasePooledProcess() {
+        Optional<HoverflyProcessPool.PooledProcess> leased = HoverflyProcessPool.getInstance().lease(processPoolKey);
+        if (!leased.isPresent()) {
+            return false;
+        }
+        pooledProcess = leased.get();
+        startedProcess = pooledProcess.getStartedProcess();
+        tempFileManager = pooledProcess.getTempFileManager();
+        poolOwnsPorts = true;
+        PortAllocator.adopt(hoverflyConfig, pooledProcess.getProxyPort(), pooledProcess.getAdminPort());
+        hoverflyClient = createHoverflyClient();
+        return true;
+    }
+
+    private HoverflyClient createHoverflyClient() {
+        if (embeddedHoverfly != null) {
+            return embeddedHoverfly;
+        }
+        return HoverflyClient.custom()
+                .scheme(hoverflyConfig.getScheme())
+                .host(hoverflyConfig.getHost())
+                .port(hoverflyConfig.getAdminPort())
+                .withAuthToken()
+                .build();
+    }
+
     /**
      * Stops the running {@link Hoverfly} process and clean up resources
      */
     @Override
     public void close() {
-        cleanUp();
+        // Also called by the shutdown hook, after the instance may already have been closed
+        if (closed.compareAndSet(false, true)) {
+            cleanUp();
+        }
     }
 
     /**
@@ -198,17 +439,31 @@ public class Hoverfly implements AutoCloseable {
      * @param simulationSource the simulation to import
      */
     public void importSimulation(SimulationSource simulationSource) {
-        LOGGER.info("Importing simulation data to Hoverfly");
+        importSimulation(simulationSource.getSimulation());
+    }
 
-        final Simulation simulation = simulationSource.getSimulation();
+    private void importSimulation(Simulation simulation) {
+        proxySelector.routeDestinations(simulation);
 
+        // Nothing else changes the simulation of a local instance in simulate mode, so an identical one need not be sent again
+        final ByteString fingerprint = canSkipUnchangedSimulation() ? fingerprint(simulation) : null;
+        if (fingerprint != null && fingerprint.equals(importedSimulationFingerprint)) {
+            LOGGER.info("Simulation data is unchanged, skipping import to Hoverfly");
+            return;
+        }
+
+        LOGGER.info("Importing simulation data to Hoverfly");
+        importedSimulationFingerprint = null;
         hoverflyClient.setSimulation(simulation);
+        importedSimulationFingerprint = fingerprint;
     }
 
     /**
      * Delete existing simulations and journals
      */
     public void reset() {
+        importedSimulationFingerprint = null;
+        proxySelector.clearDestinations();
         hoverflyClient.deleteSimulation();
         resetJournal();
     }
@@ -225,12 +480,41 @@ public class Hoverfly implements AutoCloseable {
         }
     }
 
+    /**
+     * Computes latency and throughput statistics from the journal, which is streamed rather than loaded into memory
+     * @return the statistics, with throughput counted per second
+     */
+    public JournalStats getJournalStats() {
+        return getJournalStats(JournalStats.DEFAULT_WINDOW);
+    }
+
+    /**
+     * Computes latency and throughput statistics from the journal, which is streamed rather than loaded into memory
+     * @param window the length of the time windows which throughput is counted in
+     * @return the statistics
+     */
+    public JournalStats getJournalStats(Duration window) {
+        try (Stream<JournalEntry> entries = hoverflyClient.streamJournal()) {
+            return JournalStats.of(entries, window);
+        }
+    }
+
     /**
      * Exports a simulation and stores it on the filesystem at the given path
      *
      * @param path the path on the filesystem to where the simulation should be stored
      */
     public void exportSimulation(Path path) {
+        exportSimulation(path, SimulationFormat.JSON);
+    }
+
+    /**
+     * Exports a simulation and stores it on the filesystem at the given path in the given format
+     *
+     * @param path the path on the filesystem to where the simulation should be stored
+     * @param format the format of the stored simulation
+     */
+    public void exportSimulation(Path path, SimulationFormat format) {
 
         if (path == null) {
             throw new IllegalArgumentException("Export path cannot be null.");
@@ -239,8 +523,13 @@ public class Hoverfly implements AutoCloseable {
         LOGGER.info("Exporting simulation data from Hoverfly");
         try {
             Files.deleteIfExists(path);
-            final Simulation simulation = hoverflyClient.getSimulation();
-            persistSimulation(path, simulation);
+            final List<DelaySettings> recordedDelays = hoverflyConfig.isCaptureDelays() ? recordDelays() : Collections.emptyList();
+            if (hoverflyConfig.isStreamingExport()) {
+                streamSimulation(path, format, recordedDelays);
+            } else {
+                final Simulation simulation = hoverflyClient.getSimulation();
+                persistSimulation(path, recordedDelays.isEmpty() ? simulation : RecordedDelays.addTo(simulation, recordedDelays), format);
+            }
         } catch (Exception e) {
             LOGGER.error("Failed to export simulation data", e);
         }
@@ -277,7 +566,10 @@ public class Hoverfly implements AutoCloseable {
      * @param mode hoverfly mode to change
      */
     public void setMode(HoverflyMode mode) {
+        importedSimulationFingerprint = null;
         hoverflyClient.setMode(mode);
+        currentMode = mode;
+        proxySelector.setCapturing(mode == CAPTURE);
     }
 
     /**
@@ -300,6 +592,15 @@ public class Hoverfly implements AutoCloseable {
         return sslConfigurer;
     }
 
+    /**
+     * Gets a {@link java.net.ProxySelector} which routes requests through this instance only if their destination is simulated, to set
+     * on specific clients instead of routing every request in the JVM
+     * @return the proxy selector
+     */
+    public HoverflyProxySelector getProxySelector() {
+        return proxySelector;
+    }
+
     public void verify(RequestMatcherBuilder requestMatcher, VerificationCriteria criteria) {
         verifyRequest(requestMatcher.build(), criteria);
     }
@@ -315,9 +616,35 @@ public class Hoverfly implements AutoCloseable {
 
     public void verifyAll() {
         Simulation simulation = hoverflyClient.getSimulation();
-        simulation.getHoverflyData().getPairs().stream()
+        List<Request> requests = simulation.getHoverflyData().getPairs().stream()
                 .map(RequestResponsePair::getRequest)
-                .forEach(request -> verifyRequest(request, atLeastOnce()));
+                .collect(Collectors.toList());
+
+        if (hoverflyConfig.isLocalVerification()) {
+            new JournalVerifier(hoverflyClient.getJournal(), hoverflyClient::searchJournal).verify(requests, atLeastOnce());
+        } else {
+            requests.forEach(request -> verifyRequest(request, atLeastOnce()));
+        }
+    }
+
+    /**
+     * Verifies a batch of request matchers against their criteria together, with one journal download if local verification is enabled
+     * or concurrent journal searches otherwise
+     * @param expectations the criteria for each request matcher
+     * @throws HoverflyVerificationError listing every request matcher whose criteria are not met
+     */
+    public void verifyAll(Map<RequestMatcherBuilder, VerificationCriteria> expectations) {
+        Verifier verifier = verifier();
+        expectations.forEach(verifier::expect);
+        verifier.check();
+    }
+
+    /**
+     * Creates a {@link Verifier} to add expectations to and check them all at once
+     * @return a new verifier
+     */
+    public Verifier verifier() {
+        return new Verifier(hoverflyClient, hoverflyConfig.isLocalVerification());
     }
 
     private void verifyRequest(Request request, VerificationCriteria criteria) {
@@ -326,51 +653,151 @@ public class Hoverfly implements AutoCloseable {
         criteria.verify(request, new VerificationData(journal));
     }
 
-    private void persistSimulation(Path path, Simulation simulation) throws IOException {
+    private boolean canSkipUnchangedSimulation() {
+        return !hoverflyConfig.isRemoteInstance() && currentMode == SIMULATE;
+    }
+
+    // Digest of the pairs and delay settings, which is all that Hoverfly matches on
+    private static ByteString fingerprint(Simulation simulation) {
+        final HashingSink hashingSink = HashingSink.sha256(Okio.blackhole());
+        try (BufferedSink sink = Okio.buffer(hashingSink)) {
+            JSON_WRITER.writeValue(sink.outputStream(), simulation.getHoverflyData());
+        } catch (IOException e) {
+            LOGGER.debug("Failed to fingerprint simulation: {}", e.getMessage());
+            return null;
+        }
+        return hashingSink.hash();
+    }
+
+    private void persistSimulation(Path path, Simulation simulation, SimulationFormat format) throws IOException {
         Files.createDirectories(path.getParent());
-        JSON_PRETTY_PRINTER.writeValue(path.toFile(), simulation);
+        format.write(simulation, Files.newOutputStream(path));
+    }
+
+    private List<DelaySettings> recordDelays() {
+        try (Stream<JournalEntry> entries = hoverflyClient.streamJournal()) {
+            return RecordedDelays.fromJournal(entries);
+        }
+    }
+
+    private void streamSimulation(Path path, SimulationFormat format, List<DelaySettings> recordedDelays) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path download = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".download");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(download)) {
+                hoverflyClient.exportSimulation(outputStream);
+            }
+            // Convert token by token, so the simulation never has to fit in memory
+            try (JsonParser parser = JSON_FACTORY.createParser(download.toFile());
+                 JsonGenerator generator = format.createGenerator(Files.newOutputStream(path))) {
+                while (parser.nextToken() != null) {
+                    if (!recordedDelays.isEmpty() && parser.getCurrentToken() == JsonToken.END_ARRAY && isDelays(parser.getParsingContext())) {
+                        for (DelaySettings delaySettings : recordedDelays) {
+                            JSON_WRITER.writeValue(generator, delaySettings);
+                        }
+                    }
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(download);
+        }
     }
 
 
+    // Whether the array which has just ended is data.globalActions.delays
+    private static boolean isDelays(JsonStreamContext context) {
+        final JsonStreamContext globalActions = context.getParent();
+        final JsonStreamContext data = globalActions == null ? null : globalActions.getParent();
+        return "delays".equals(context.getCurrentName())
+                && globalActions != null && "globalActions".equals(globalActions.getCurrentName())
+                && data != null && "data".equals(data.getCurrentName()) && data.getParent() != null && data.getParent().inRoot();
+    }
+
     /**
      * Blocks until the Hoverfly process becomes healthy, otherwise time out
      */
     private void waitForHoverflyToBecomeHealthy() {
-        final Instant now = Instant.now();
-
-        while (Duration.between(now, Instant.now()).getSeconds() < BOOT_TIMEOUT_SECONDS) {
-            if (hoverflyClient.getHealth()) return;
-            try {
-                // TODO: prefer executors and tasks to threads
-                Thread.sleep(RETRY_BACKOFF_INTERVAL_MS);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+        final Duration bootLatency;
+        if (hoverflyConfig.isRemoteInstance()) {
+            bootLatency = readinessProbe.await(hoverflyClient);
+        } else {
+            bootLatency = readinessProbe.await(hoverflyClient, new InetSocketAddress(hoverflyConfig.getHost(), hoverflyConfig.getAdminPort()),
+                    startedProcess != null ? startedProcess.getProcess() : null);
         }
-        throw new IllegalStateException("Hoverfly has not become healthy in " + BOOT_TIMEOUT_SECONDS + " seconds");
+        LOGGER.info("Hoverfly became healthy in {} ms", bootLatency.toMillis());
     }
 
     private void cleanUp() {
-        LOGGER.info("Destroying hoverfly process");
+        importedSimulationFingerprint = null;
 
-        if (startedProcess != null) {
-            Process process = startedProcess.getProcess();
-            process.destroy();
+        if (pooledProcess != null) {
+            releasePooledProcess();
+            return;
+        }
 
-            // Some platforms terminate process asynchronously, eg. Windows, and cannot guarantee that synchronous file deletion
-            // can acquire file lock
-            ExecutorService executorService = Executors.newSingleThreadExecutor();
-            Future<Integer> future = executorService.submit((Callable<Integer>) process::waitFor);
-            try {
-                future.get(5, TimeUnit.SECONDS);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-                LOGGER.warn("Timeout when waiting for hoverfly process to terminate.");
-            }
-            executorService.shutdownNow();
+        if (embeddedHoverfly != null) {
+            LOGGER.info("Stopping embedded hoverfly");
+            embeddedHoverfly.stop();
+        } else {
+            LOGGER.info("Destroying hoverfly process");
+        }
+
+        final Process process = startedProcess != null ? startedProcess.getProcess() : null;
+        if (process != null) {
+            process.destroy();
         }
+        startedProcess = null;
 
         proxyConfigurer.restoreProxySystemProperties();
+        RoutingProxySelector.getInstance().unregister(proxySelector);
         // TODO: reset default SslContext?
-        tempFileManager.purge();
+
+        // Only give up the ports and files once the process has let go of them
+        final List<Integer> dynamicPorts = getDynamicPorts();
+        final TempFileManager tempFiles = tempFileManager;
+        tempFileManager = new TempFileManager();
+        teardown = ProcessReaper.getInstance().reap(process, () -> {
+            dynamicPorts.forEach(PortAllocator::release);
+            tempFiles.purge();
+        });
+    }
+
+    /**
+     * Blocks until the process has exited and its temporary files are deleted, after the instance is closed
+     */
+    void awaitTeardown() {
+        try {
+            teardown.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Failed to clean up after hoverfly process.", e.getCause());
+        }
+    }
+
+    /**
+     * Resets the leased process to a clean state and returns it to the pool, or discards it if it cannot be reset
+     */
+    private void releasePooledProcess() {
+        LOGGER.info("Returning hoverfly process to the pool");
+        HoverflyProcessPool.PooledProcess process = pooledProcess;
+        pooledProcess = null;
+        startedProcess = null;
+        // The temporary files belong to the pooled process, which may be leased by another instance
+        tempFileManager = new TempFileManager();
+
+        proxyConfigurer.restoreProxySystemProperties();
+        RoutingProxySelector.getInstance().unregister(proxySelector);
+
+        try {
+            hoverflyClient.deleteSimulation();
+            hoverflyClient.deleteJournal();
+            hoverflyClient.setDestination(DEFAULT_DESTINATION);
+            HoverflyProcessPool.getInstance().release(process);
+        } catch (HoverflyClientException e) {
+            LOGGER.warn("Failed to reset pooled hoverfly process, it will be destroyed.", e);
+            HoverflyProcessPool.getInstance().discard(process);
+        }
     }
 }
@@ -17,6 +17,7 @@ import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
 import io.specto.hoverfly.junit.core.config.LocalHoverflyConfig;
 import io.specto.hoverfly.junit.core.config.RemoteHoverflyConfig;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +33,13 @@ public abstract class HoverflyConfig {
     protected String destination;
     protected String proxyCaCert;
     protected List<String> captureHeaders;
+    protected Duration healthCheckTimeout;
+    protected boolean streamingExport;
+    protected boolean localVerification;
+    protected boolean captureDelays;
+    protected boolean proxySelector;
+    protected List<String> proxiedHosts;
+    protected boolean scopedSslContext;
 
     /**
      * New instance
@@ -128,6 +136,81 @@ public abstract class HoverflyConfig {
     }
 
 
+    /**
+     * Sets how long to wait for {@link Hoverfly} to become healthy on start, default to 10 seconds
+     * @param healthCheckTimeout the maximum time to wait
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig healthCheckTimeout(Duration healthCheckTimeout) {
+        this.healthCheckTimeout = healthCheckTimeout;
+        return this;
+    }
+
+    /**
+     * Exports simulations by streaming the admin API response to disk, rather than reading it into memory first. Use it for large
+     * captures, the exported file is written as returned by Hoverfly, only converted to the export format.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig streamingExport() {
+        this.streamingExport = true;
+        return this;
+    }
+
+    /**
+     * Verifies {@link Hoverfly#verifyAll()} by downloading the journal once and matching it against every request locally, instead of
+     * searching the journal on Hoverfly once per request. Requests are matched by hoverfly-java, using the same matchers as the embedded
+     * simulation engine.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig localVerification() {
+        this.localVerification = true;
+        return this;
+    }
+
+    /**
+     * Adds delay settings to exported simulations, derived from the latency of the captured requests in the journal. Replaying the
+     * simulation then delays each response as long as the real service took, following the recorded latency distribution.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig captureDelays() {
+        this.captureDelays = true;
+        return this;
+    }
+
+    /**
+     * Routes requests through {@link Hoverfly} with a {@link HoverflyProxySelector} installed as the JVM default, instead of setting the
+     * proxy system properties. Only requests to the destinations of the simulation are routed, or every request in capture mode, and
+     * several instances can be started side by side.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig proxySelector() {
+        this.proxySelector = true;
+        return this;
+    }
+
+    /**
+     * Routes requests to the given hosts through {@link Hoverfly} with a {@link HoverflyProxySelector} installed as the JVM default,
+     * whatever the simulation or mode
+     * @param hosts the hosts, which can contain wildcards such as {@code *.flight.com}, or a port such as {@code localhost:8080}
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig proxySelector(String... hosts) {
+        this.proxySelector = true;
+        this.proxiedHosts = Arrays.asList(hosts);
+        return this;
+    }
+
+    /**
+     * Leaves the JVM default {@link javax.net.ssl.SSLContext} as it is, instead of replacing it with one which trusts the Hoverfly CA
+     * certificate. Only clients configured with the SSL context of {@link Hoverfly#getSslConfigurer()} trust Hoverfly, so several
+     * instances with different CA certificates can run side by side.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig scopedSslContext() {
+        this.scopedSslContext = true;
+        return this;
+    }
+
     /**
      * Enable remote Hoverfly configurations
      * @return a {@link RemoteHoverflyConfig} implementation
@@ -0,0 +1,203 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.PortAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.zeroturnaround.exec.StartedProcess;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * A JVM-wide pool of local Hoverfly processes. Processes are leased exclusively to one {@link Hoverfly} instance at a time,
+ * returned to the pool when that instance is closed, and only destroyed on JVM exit.
+ */
+class HoverflyProcessPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyProcessPool.class);
+    private static final HoverflyProcessPool INSTANCE = new HoverflyProcessPool();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::shutdown));
+    }
+
+    private final Map<Key, Deque<PooledProcess>> idleProcesses = new HashMap<>();
+    private final Set<PooledProcess> processes = new HashSet<>();
+    private boolean shutdown;
+
+    HoverflyProcessPool() {
+    }
+
+    static HoverflyProcessPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Leases an idle process matching the given key, discarding any idle process which is no longer alive
+     */
+    synchronized Optional<PooledProcess> lease(Key key) {
+        Deque<PooledProcess> idle = idleProcesses.get(key);
+        while (idle != null && !idle.isEmpty()) {
+            PooledProcess process = idle.pop();
+            if (process.isAlive()) {
+                LOGGER.info("Reusing pooled hoverfly process on proxy port {} and admin port {}", process.getProxyPort(), process.getAdminPort());
+                return Optional.of(process);
+            }
+            discard(process);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Registers a newly started process with the pool. The process is considered leased by the caller.
+     */
+    synchronized PooledProcess register(Key key, StartedProcess startedProcess, TempFileManager tempFileManager, int proxyPort, int adminPort) {
+        PooledProcess process = new PooledProcess(key, startedProcess, tempFileManager, proxyPort, adminPort);
+        if (shutdown) {
+            process.destroy();
+            throw new IllegalStateException("Hoverfly process pool has already been shut down.");
+        }
+        processes.add(process);
+        return process;
+    }
+
+    /**
+     * Returns a leased process to the pool so it can be leased again
+     */
+    synchronized void release(PooledProcess process) {
+        if (shutdown || !process.isAlive()) {
+            discard(process);
+            return;
+        }
+        idleProcesses.computeIfAbsent(process.getKey(), k -> new ArrayDeque<>()).push(process);
+    }
+
+    /**
+     * Removes a process from the pool and destroys it. The process is waited for in the background, so a process which is slow to
+     * exit does not hold up leasing others.
+     */
+    synchronized void discard(PooledProcess process) {
+        processes.remove(process);
+        Deque<PooledProcess> idle = idleProcesses.get(process.getKey());
+        if (idle != null) {
+            idle.remove(process);
+        }
+        process.destroy();
+    }
+
+    /**
+     * Destroys all the processes, including the ones which are currently leased, and waits for them to exit
+     */
+    void shutdown() {
+        final List<CompletableFuture<Void>> destroyed;
+        synchronized (this) {
+            shutdown = true;
+            destroyed = processes.stream().map(PooledProcess::destroy).collect(Collectors.toList());
+            processes.clear();
+            idleProcesses.clear();
+        }
+        // The JVM does not wait for the reaper thread
+        CompletableFuture.allOf(destroyed.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    /**
+     * The configuration shape a pooled process is compatible with. Ports are those requested by the user, where 0 means any port.
+     */
+    static final class Key {
+
+        private final int proxyPort;
+        private final int adminPort;
+        private final String sslCertificatePath;
+        private final String sslKeyPath;
+
+        Key(int proxyPort, int adminPort, String sslCertificatePath, String sslKeyPath) {
+            this.proxyPort = proxyPort;
+            this.adminPort = adminPort;
+            this.sslCertificatePath = sslCertificatePath;
+            this.sslKeyPath = sslKeyPath;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return proxyPort == key.proxyPort
+                    && adminPort == key.adminPort
+                    && Objects.equals(sslCertificatePath, key.sslCertificatePath)
+                    && Objects.equals(sslKeyPath, key.sslKeyPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(proxyPort, adminPort, sslCertificatePath, sslKeyPath);
+        }
+    }
+
+    /**
+     * A Hoverfly process owned by the pool, together with its temporary files and the ports it listens on
+     */
+    static final class PooledProcess {
+
+        private final Key key;
+        private final StartedProcess startedProcess;
+        private final TempFileManager tempFileManager;
+        private final int proxyPort;
+        private final int adminPort;
+
+        private PooledProcess(Key key, StartedProcess startedProcess, TempFileManager tempFileManager, int proxyPort, int adminPort) {
+            this.key = key;
+            this.startedProcess = startedProcess;
+            this.tempFileManager = tempFileManager;
+            this.proxyPort = proxyPort;
+            this.adminPort = adminPort;
+        }
+
+        Key getKey() {
+            return key;
+        }
+
+        StartedProcess getStartedProcess() {
+            return startedProcess;
+        }
+
+        TempFileManager getTempFileManager() {
+            return tempFileManager;
+        }
+
+        int getProxyPort() {
+            return proxyPort;
+        }
+
+        int getAdminPort() {
+            return adminPort;
+        }
+
+        boolean isAlive() {
+            return startedProcess.getProcess().isAlive();
+        }
+
+        private CompletableFuture<Void> destroy() {
+            Process process = startedProcess.getProcess();
+            process.destroy();
+            return ProcessReaper.getInstance().reap(process, () -> {
+                PortAllocator.release(proxyPort);
+                PortAllocator.release(adminPort);
+                tempFileManager.purge();
+            });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.FieldMatcher;
+import io.specto.hoverfly.junit.core.model.HoverflyData;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static io.specto.hoverfly.junit.core.model.FieldMatcher.exactlyMatches;
+import static io.specto.hoverfly.junit.core.model.FieldMatcher.wildCardMatches;
+
+/**
+ * A {@link ProxySelector} which routes requests through a {@link Hoverfly} instance only if their destination is simulated, or is one
+ * of the hosts it is configured with. Any other request is sent the way it would have been without Hoverfly, so it does not take the
+ * extra hop through the proxy. In capture mode every request is routed, as the destinations are not known in advance.
+ * <p>
+ * Unlike the proxy system properties, a selector only affects the clients which use it: set it on a client, such as with
+ * {@code new OkHttpClient.Builder().proxySelector(hoverfly.getProxySelector())}, or configure Hoverfly to install it as the JVM
+ * default, in which case several instances can route their own destinations side by side.
+ */
+public class HoverflyProxySelector extends ProxySelector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyProxySelector.class);
+
+    private final boolean proxyLocalHost;
+    private final String excludedHost;
+    private final boolean fixedHosts;
+
+    private volatile Proxy proxy;
+    private volatile String adminAuthority;
+    private volatile List<CompiledFieldMatcher> destinations = Collections.emptyList();
+    private volatile boolean capturing;
+
+    /**
+     * @param proxyLocalHost whether requests to the local host are routed
+     * @param excludedHost a host which is never routed, such as the host of a remote Hoverfly instance, or null
+     * @param hosts the hosts to route, which can contain wildcards, or null to route the destinations of the simulation
+     */
+    HoverflyProxySelector(boolean proxyLocalHost, String excludedHost, List<String> hosts) {
+        this.proxyLocalHost = proxyLocalHost;
+        this.excludedHost = excludedHost;
+        this.fixedHosts = hosts != null;
+        if (fixedHosts) {
+            this.destinations = compile(hosts.stream()
+                    .map(host -> host.contains("*") ? wildCardMatches(host) : exactlyMatches(host))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    @Override
+    public List<Proxy> select(URI uri) {
+        if (uri == null) {
+            throw new IllegalArgumentException("URI can't be null.");
+        }
+        final Proxy proxy = this.proxy;
+        if (proxy != null && isRouted(uri)) {
+            return Collections.singletonList(proxy);
+        }
+        return RoutingProxySelector.getInstance().selectUnrouted(uri);
+    }
+
+    @Override
+    public void connectFailed(URI uri, SocketAddress address, IOException e) {
+        if (proxy != null && Objects.equals(proxy.address(), address)) {
+            LOGGER.warn("Failed to connect to Hoverfly at {} for {}: {}", address, uri, e.getMessage());
+        } else {
+            RoutingProxySelector.getInstance().connectFailedUnrouted(uri, address, e);
+        }
+    }
+
+    /**
+     * Whether a request is routed through Hoverfly, because its destination is simulated or Hoverfly is capturing
+     * @param uri the URI of the request
+     * @return true if the request is sent through the Hoverfly proxy
+     */
+    public boolean isRouted(URI uri) {
+        return routesDestination(uri) || capturing && !fixedHosts && isProxied(uri);
+    }
+
+    /**
+     * Whether a request is routed because its destination is simulated or configured, not only because Hoverfly is capturing
+     */
+    boolean routesDestination(URI uri) {
+        if (!isProxied(uri)) {
+            return false;
+        }
+        final String host = uri.getHost();
+        final String authority = uri.getPort() == -1 ? host : host + ":" + uri.getPort();
+        return destinations.stream().anyMatch(destination -> destination.matches(host) || destination.matches(authority));
+    }
+
+    /**
+     * Routes requests to the proxy of a started Hoverfly instance, other than those to its admin API
+     */
+    void setProxy(String host, int proxyPort, int adminPort) {
+        this.adminAuthority = host + ":" + adminPort;
+        this.proxy = new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved(host, proxyPort));
+    }
+
+    void setCapturing(boolean capturing) {
+        this.capturing = capturing;
+    }
+
+    /**
+     * Routes the destinations of a simulation, in place of those of the previous one, unless the hosts to route are configured
+     */
+    void routeDestinations(Simulation simulation) {
+        if (fixedHosts) {
+            return;
+        }
+        final HoverflyData data = simulation.getHoverflyData();
+        final Collection<RequestResponsePair> pairs = data == null || data.getPairs() == null ? Collections.emptySet() : data.getPairs();
+        this.destinations = compile(pairs.stream()
+                .map(pair -> pair.getRequest().getDestination())
+                .distinct()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Stops routing the destinations of a simulation once it is deleted
+     */
+    void clearDestinations() {
+        if (!fixedHosts) {
+            this.destinations = Collections.emptyList();
+        }
+    }
+
+    private boolean isProxied(URI uri) {
+        final String scheme = uri.getScheme();
+        final String host = uri.getHost();
+        if (host == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+            return false;
+        }
+        if (host.equalsIgnoreCase(excludedHost) || (host + ":" + uri.getPort()).equalsIgnoreCase(adminAuthority)) {
+            return false;
+        }
+        return proxyLocalHost || !isLocalHost(host);
+    }
+
+    // The hosts which the JVM never proxies by default
+    private static boolean isLocalHost(String host) {
+        return host.equalsIgnoreCase("localhost") || host.startsWith("127.") || host.equals("[::1]") || host.equals("::1");
+    }
+
+    private static List<CompiledFieldMatcher> compile(List<FieldMatcher> matchers) {
+        return Collections.unmodifiableList(matchers.stream()
+                .map(CompiledFieldMatcher::compile)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,83 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.verification.HoverflyVerificationError;
+import io.specto.hoverfly.junit.verification.VerificationCriteria;
+import io.specto.hoverfly.junit.verification.VerificationData;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies requests against a journal which has been downloaded once, by matching each request locally, so verifying any number of
+ * requests costs a single round trip to Hoverfly. Requests are verified in parallel, and the failure of the first request in the
+ * given order is reported, as if they had been verified one by one. A request with a matcher which cannot be compiled locally, such as a
+ * JSONPath filter expression, is searched for on Hoverfly instead.
+ */
+class JournalVerifier {
+
+    private final Journal journal;
+    private final Function<Request, Journal> searchJournal;
+
+    /**
+     * @param journal the journal downloaded from Hoverfly
+     * @param searchJournal searches the journal on Hoverfly, for requests which cannot be matched locally
+     */
+    JournalVerifier(Journal journal, Function<Request, Journal> searchJournal) {
+        this.journal = journal;
+        this.searchJournal = searchJournal;
+    }
+
+    /**
+     * Gets the journal entries matching a request, like searching the journal on Hoverfly
+     */
+    Journal search(Request request) {
+        if (journal == null || journal.getEntries() == null) {
+            return journal;
+        }
+        final Optional<Predicate<RequestDetails>> matcher = SimulationMatcher.tryCompile(request);
+        if (!matcher.isPresent()) {
+            return searchJournal.apply(request);
+        }
+        final List<JournalEntry> entries = journal.getEntries().stream()
+                .filter(entry -> matcher.get().test(entry.getRequest()))
+                .collect(Collectors.toList());
+        return new Journal(entries);
+    }
+
+    void verify(List<Request> requests, VerificationCriteria criteria) {
+        final Optional<HoverflyVerificationError> failure = requests.parallelStream()
+                .map(request -> verify(request, criteria))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Verifies a request against this journal, returning the failure instead of throwing it
+     */
+    Optional<HoverflyVerificationError> verify(Request request, VerificationCriteria criteria) {
+        return verify(request, criteria, search(request));
+    }
+
+    /**
+     * Verifies a request against the journal entries which matched it, returning the failure instead of throwing it
+     */
+    static Optional<HoverflyVerificationError> verify(Request request, VerificationCriteria criteria, Journal matchingEntries) {
+        try {
+            criteria.verify(request, new VerificationData(matchingEntries));
+            return Optional.empty();
+        } catch (HoverflyVerificationError e) {
+            return Optional.of(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.specto.hoverfly.junit.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for destroyed Hoverfly processes to exit and then cleans up after them, on a single JVM-wide daemon thread, so that closing
+ * {@link Hoverfly} does not block until the process has gone.
+ */
+class ProcessReaper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessReaper.class);
+    private static final int PROCESS_TERMINATION_TIMEOUT_SECONDS = 5;
+    private static final ProcessReaper INSTANCE = new ProcessReaper();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "hoverfly-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ProcessReaper() {
+    }
+
+    static ProcessReaper getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Waits in the background for a process which has been signalled to exit, then runs the clean up
+     * @param process the destroyed process, or null if there is none to wait for
+     * @param cleanUp what to do once the process has exited, or has failed to within the timeout
+     * @return a future which completes when the clean up has run
+     */
+    CompletableFuture<Void> reap(Process process, Runnable cleanUp) {
+        return CompletableFuture.runAsync(() -> {
+            // Some platforms terminate process asynchronously, eg. Windows, and cannot guarantee that synchronous file deletion
+            // can acquire file lock
+            if (process != null) {
+                awaitTermination(process);
+            }
+            try {
+                cleanUp.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to clean up after hoverfly process.", e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Blocks until every process handed to the reaper so far has exited and been cleaned up
+     */
+    void awaitPending() {
+        CompletableFuture.runAsync(() -> { }, executor).join();
+    }
+
+    private static void awaitTermination(Process process) {
+        try {
+            if (!process.waitFor(PROCESS_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout when waiting for hoverfly process to terminate.");
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted when waiting for hoverfly process to terminate.");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
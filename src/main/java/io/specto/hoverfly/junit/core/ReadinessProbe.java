@@ -0,0 +1,109 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import org.zeroturnaround.exec.stream.LogOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * Waits for Hoverfly to become ready. Rather than polling the health endpoint at a fixed interval, it probes with an exponential backoff,
+ * re-probes as soon as the Hoverfly process prints to stdout, and gates the HTTP health check of a local process with a cheap TCP connect
+ * to the admin port.
+ */
+class ReadinessProbe {
+
+    private static final long INITIAL_BACKOFF_MS = 5;
+    private static final long MAX_BACKOFF_MS = 200;
+    private static final int CONNECT_TIMEOUT_MS = 100;
+
+    private final Duration timeout;
+    private final Object monitor = new Object();
+    private boolean outputReceived;
+
+    ReadinessProbe(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates an output stream for the Hoverfly process which forwards each line to the given stream, and wakes up the probe
+     */
+    OutputStream processOutput(PrintStream delegate) {
+        return new LogOutputStream() {
+            @Override
+            protected void processLine(String line) {
+                delegate.println(line);
+                synchronized (monitor) {
+                    outputReceived = true;
+                    monitor.notifyAll();
+                }
+            }
+        };
+    }
+
+    /**
+     * Blocks until the health endpoint responds
+     * @return the time it took Hoverfly to become healthy
+     */
+    Duration await(HoverflyClient hoverflyClient) {
+        return await(hoverflyClient, null);
+    }
+
+    /**
+     * Blocks until the admin port accepts connections and the health endpoint responds
+     * @return the time it took Hoverfly to become healthy
+     */
+    Duration await(HoverflyClient hoverflyClient, InetSocketAddress adminAddress) {
+        return await(hoverflyClient, adminAddress, null);
+    }
+
+    /**
+     * Blocks until the admin port accepts connections and the health endpoint responds, failing fast if the process exits first,
+     * for example because it could not bind its ports
+     * @return the time it took Hoverfly to become healthy
+     */
+    Duration await(HoverflyClient hoverflyClient, InetSocketAddress adminAddress, Process process) {
+        final long start = System.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        long backoff = INITIAL_BACKOFF_MS;
+
+        while (System.nanoTime() < deadline) {
+            if (process != null && !process.isAlive()) {
+                throw new IllegalStateException("Hoverfly process exited with code " + process.exitValue() + " before becoming healthy");
+            }
+            if ((adminAddress == null || isAcceptingConnections(adminAddress)) && hoverflyClient.getHealth()) {
+                return Duration.ofNanos(System.nanoTime() - start);
+            }
+            waitForOutputOrBackoff(Math.min(backoff, Math.max(1, (deadline - System.nanoTime()) / 1_000_000)));
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+        }
+        throw new IllegalStateException("Hoverfly has not become healthy in " + timeout.toMillis() + " milliseconds");
+    }
+
+    private void waitForOutputOrBackoff(long millis) {
+        synchronized (monitor) {
+            try {
+                if (!outputReceived) {
+                    monitor.wait(millis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for Hoverfly to become healthy", e);
+            }
+            outputReceived = false;
+        }
+    }
+
+    private static boolean isAcceptingConnections(InetSocketAddress address) {
+        try (Socket socket = new Socket()) {
+            socket.connect(address, CONNECT_TIMEOUT_MS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
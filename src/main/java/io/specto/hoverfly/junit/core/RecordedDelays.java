@@ -0,0 +1,118 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.GlobalActions;
+import io.specto.hoverfly.junit.core.model.HoverflyData;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import io.specto.hoverfly.junit.stats.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Derives delay settings from the latency of captured requests in the journal, so that a captured simulation is as slow as the real
+ * service was. Each method, destination and path gets a delay which replays the recorded latency distribution, by its percentiles.
+ */
+class RecordedDelays {
+
+    // Enough percentiles to replay the tail of the distribution, up to the 99.5th percentile
+    private static final int MAX_PERCENTILES = 100;
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()*+?^$|";
+
+    private RecordedDelays() {
+    }
+
+    /**
+     * Computes the delay settings, with fixed memory per endpoint, from the captured entries of a journal
+     */
+    static List<DelaySettings> fromJournal(Stream<JournalEntry> entries) {
+        final Map<Endpoint, LatencyHistogram> latencies = new LinkedHashMap<>();
+        entries.filter(entry -> entry.getLatency() != null && entry.getRequest() != null)
+                .filter(entry -> entry.getMode() == null || HoverflyMode.CAPTURE.getValue().equals(entry.getMode()))
+                .forEachOrdered(entry -> latencies.computeIfAbsent(new Endpoint(entry.getRequest()), endpoint -> new LatencyHistogram())
+                        .record(entry.getLatency()));
+
+        return latencies.entrySet().stream()
+                .map(endpoint -> {
+                    final DelayDistribution distribution = replay(endpoint.getValue());
+                    return new DelaySettings(endpoint.getKey().toUrlPattern(), distribution.getTypicalDelay(),
+                            endpoint.getKey().method, distribution);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds the delay settings to a simulation, after any it already has
+     */
+    static Simulation addTo(Simulation simulation, List<DelaySettings> delays) {
+        final HoverflyData data = simulation.getHoverflyData();
+        final List<DelaySettings> allDelays = new ArrayList<>();
+        if (data.getGlobalActions() != null && data.getGlobalActions().getDelays() != null) {
+            allDelays.addAll(data.getGlobalActions().getDelays());
+        }
+        allDelays.addAll(delays);
+        return new Simulation(new HoverflyData(data.getPairs(), new GlobalActions(allDelays)), simulation.getHoverflyMetaData());
+    }
+
+    private static DelayDistribution replay(LatencyHistogram histogram) {
+        final int percentiles = (int) Math.min(MAX_PERCENTILES, histogram.getCount());
+        return DelayDistribution.histogram(IntStream.range(0, percentiles)
+                .mapToObj(i -> histogram.getValueAtPercentile((i + 0.5) * 100 / percentiles))
+                .collect(Collectors.toList()));
+    }
+
+    // Delay url patterns are regular expressions matched against the destination and path
+    private static String quote(String value) {
+        final StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static class Endpoint {
+
+        private final String method;
+        private final String destination;
+        private final String path;
+
+        private Endpoint(RequestDetails request) {
+            this.method = request.getMethod();
+            this.destination = request.getDestination() == null ? "" : request.getDestination();
+            this.path = request.getPath() == null ? "" : request.getPath();
+        }
+
+        private String toUrlPattern() {
+            return "^" + quote(destination + path) + "$";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Endpoint endpoint = (Endpoint) o;
+            return Objects.equals(method, endpoint.method) && destination.equals(endpoint.destination) && path.equals(endpoint.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, destination, path);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.specto.hoverfly.junit.core;
+
+import java.io.IOException;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The JVM default {@link ProxySelector} while any {@link Hoverfly} routes requests with a {@link HoverflyProxySelector}. It routes each
+ * request through the first instance which simulates its destination, or else one which is capturing, and sends any other request the
+ * way the selector it replaced would have. That selector is restored once the last instance is unregistered.
+ */
+class RoutingProxySelector extends ProxySelector {
+
+    private static final RoutingProxySelector INSTANCE = new RoutingProxySelector();
+
+    private final List<HoverflyProxySelector> selectors = new CopyOnWriteArrayList<>();
+    private volatile ProxySelector original;
+    private boolean installed;
+
+    private RoutingProxySelector() {
+    }
+
+    static RoutingProxySelector getInstance() {
+        return INSTANCE;
+    }
+
+    synchronized void register(HoverflyProxySelector selector) {
+        if (!selectors.contains(selector)) {
+            selectors.add(selector);
+        }
+        if (!installed) {
+            original = ProxySelector.getDefault();
+            ProxySelector.setDefault(this);
+            installed = true;
+        }
+    }
+
+    synchronized void unregister(HoverflyProxySelector selector) {
+        selectors.remove(selector);
+        if (installed && selectors.isEmpty()) {
+            // Leave a selector which has been set since alone
+            if (ProxySelector.getDefault() == this) {
+                ProxySelector.setDefault(original);
+            }
+            original = null;
+            installed = false;
+        }
+    }
+
+    @Override
+    public List<Proxy> select(URI uri) {
+        if (uri == null) {
+            throw new IllegalArgumentException("URI can't be null.");
+        }
+        for (HoverflyProxySelector selector : selectors) {
+            if (selector.routesDestination(uri)) {
+                return selector.select(uri);
+            }
+        }
+        for (HoverflyProxySelector selector : selectors) {
+            if (selector.isRouted(uri)) {
+                return selector.select(uri);
+            }
+        }
+        return selectUnrouted(uri);
+    }
+
+    @Override
+    public void connectFailed(URI uri, SocketAddress address, IOException e) {
+        for (HoverflyProxySelector selector : selectors) {
+            if (selector.isRouted(uri)) {
+                selector.connectFailed(uri, address, e);
+                return;
+            }
+        }
+        connectFailedUnrouted(uri, address, e);
+    }
+
+    /**
+     * Selects the proxy for a request which no Hoverfly routes, as the JVM would have without Hoverfly
+     */
+    List<Proxy> selectUnrouted(URI uri) {
+        final ProxySelector fallback = fallback();
+        return fallback == null ? Collections.singletonList(Proxy.NO_PROXY) : fallback.select(uri);
+    }
+
+    void connectFailedUnrouted(URI uri, SocketAddress address, IOException e) {
+        final ProxySelector fallback = fallback();
+        if (fallback != null) {
+            fallback.connectFailed(uri, address, e);
+        }
+    }
+
+    private ProxySelector fallback() {
+        final ProxySelector original = this.original;
+        if (original != null) {
+            return original;
+        }
+        // A Hoverfly selector set as the default would ask for the fallback again
+        final ProxySelector current = ProxySelector.getDefault();
+        return current == this || current instanceof HoverflyProxySelector ? null : current;
+    }
+}
@@ -0,0 +1,99 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+
+/**
+ * A JVM-wide cache of simulations parsed from files and classpath resources, so a simulation shared by many tests is only parsed once.
+ * Entries are keyed by resource URL, invalidated when the last modified time or size of the resource changes, and softly referenced
+ * so they can be reclaimed under memory pressure. Resources from other protocols, such as http, are never cached. Cached simulations are
+ * shared by every caller, which is safe as the simulation model cannot be changed.
+ */
+class SimulationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationCache.class);
+    private static final SimulationCache INSTANCE = new SimulationCache();
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    SimulationCache() {
+    }
+
+    static SimulationCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the simulation cached for the given resource, loading it if it is absent or the resource has changed
+     */
+    Simulation get(URL url, Supplier<Simulation> loader) {
+        final Optional<String> version = version(url);
+        if (!version.isPresent()) {
+            return loader.get();
+        }
+
+        final String key = url.toExternalForm();
+        final Entry cached = entries.get(key);
+        final Simulation cachedSimulation = cached != null && cached.version.equals(version.get()) ? cached.simulation.get() : null;
+        if (cachedSimulation != null) {
+            return cachedSimulation;
+        }
+
+        // Parse without holding a lock on the map, at the risk of two threads parsing the same resource at once
+        final Simulation simulation = loader.get();
+        final Entry loaded = new Entry(version.get(), simulation);
+        entries.merge(key, loaded, (current, ignored) -> current.version.equals(loaded.version) && current.simulation.get() != null
+                ? current : loaded);
+        return simulation;
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    // Identifies the current content of a resource by its last modified time and size
+    private static Optional<String> version(URL url) {
+        try {
+            switch (url.getProtocol()) {
+                case "file":
+                    final Path path = Paths.get(url.toURI());
+                    return Optional.of(Files.getLastModifiedTime(path).toMillis() + ":" + Files.size(path));
+                case "jar":
+                    final JarEntry jarEntry = ((JarURLConnection) url.openConnection()).getJarEntry();
+                    return Optional.ofNullable(jarEntry).map(e -> e.getTime() + ":" + e.getSize());
+                default:
+                    return Optional.empty();
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.debug("Not caching simulation from {}: {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static final class Entry {
+
+        private final String version;
+        private final SoftReference<Simulation> simulation;
+
+        private Entry(String version, Simulation simulation) {
+            this.version = Objects.requireNonNull(version);
+            this.simulation = new SoftReference<>(simulation);
+        }
+    }
+}
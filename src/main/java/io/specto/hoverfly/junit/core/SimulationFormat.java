@@ -0,0 +1,90 @@
+package io.specto.hoverfly.junit.core;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.format.DataFormatDetector;
+import com.fasterxml.jackson.core.format.DataFormatMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.specto.hoverfly.junit.core.model.Simulation;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Enums denoting the file formats a {@link Simulation} can be stored in. Besides pretty-printed JSON, simulations can be stored in the
+ * binary Smile format, which is smaller and faster to parse, and either format can be gzip compressed.
+ * Simulation sources detect the format of a file from its leading bytes.
+ */
+public enum SimulationFormat {
+    JSON(false, false),
+    JSON_GZIP(false, true),
+    SMILE(true, false),
+    SMILE_GZIP(true, true);
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+    private static final DataFormatDetector FORMAT_DETECTOR = new DataFormatDetector(SMILE_MAPPER.getFactory(), JSON_MAPPER.getFactory());
+    private static final int GZIP_MAGIC_LENGTH = 2;
+
+    private final boolean smile;
+    private final boolean compressed;
+
+    SimulationFormat(boolean smile, boolean compressed) {
+        this.smile = smile;
+        this.compressed = compressed;
+    }
+
+    /**
+     * Reads a simulation in any of the formats, detected from the leading bytes of the stream, and closes the stream
+     */
+    static Simulation read(InputStream inputStream) throws IOException {
+        try (InputStream input = decompressIfGzip(new BufferedInputStream(inputStream))) {
+            DataFormatMatcher matcher = FORMAT_DETECTOR.findFormat(input);
+            if (!matcher.hasMatch()) {
+                throw new IOException("Unrecognized simulation format");
+            }
+            ObjectMapper mapper = SmileFactory.FORMAT_NAME_SMILE.equals(matcher.getMatchedFormatName()) ? SMILE_MAPPER : JSON_MAPPER;
+            try (JsonParser parser = matcher.createParserWithMatch()) {
+                return mapper.readValue(parser, Simulation.class);
+            }
+        }
+    }
+
+    /**
+     * Writes a simulation in this format
+     */
+    void write(Simulation simulation, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            mapper().writeValue(generator, simulation);
+        }
+    }
+
+    /**
+     * Creates a generator which writes in this format, closing the given stream when it is closed
+     */
+    JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        OutputStream output = compressed ? new GZIPOutputStream(outputStream) : outputStream;
+        JsonFactory factory = mapper().getFactory();
+        JsonGenerator generator = factory.createGenerator(output);
+        return smile ? generator : generator.useDefaultPrettyPrinter();
+    }
+
+    private ObjectMapper mapper() {
+        return smile ? SMILE_MAPPER : JSON_MAPPER;
+    }
+
+    private static InputStream decompressIfGzip(InputStream input) throws IOException {
+        input.mark(GZIP_MAGIC_LENGTH);
+        int first = input.read();
+        int second = input.read();
+        input.reset();
+        boolean gzip = first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+        return gzip ? new BufferedInputStream(new GZIPInputStream(input)) : input;
+    }
+}
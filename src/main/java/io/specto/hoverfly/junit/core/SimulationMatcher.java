@@ -0,0 +1,249 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.FieldMatcher;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Matches requests against the {@link RequestResponsePair}s of a simulation the way Hoverfly does, for the embedded simulation engine
+ * and for searching its journal. Every field matcher which is set has to match, and a field without a matcher matches any value.
+ * <p>
+ * Pairs are indexed by their exact method, destination and path, or failing that by exact path, so a lookup only evaluates the pairs
+ * which can possibly match instead of scanning the whole simulation. Pairs with a glob or regex path are indexed by their exact
+ * destination and the first segment of the literal prefix of the path, such as {@code /api} for {@code /api/bookings/*}, by whichever
+ * of the two they have. Only pairs with neither are evaluated for every request. The request matchers are compiled once, when the
+ * index is built.
+ */
+class SimulationMatcher {
+
+    private final Map<String, List<IndexedPair>> exactRequestIndex = new HashMap<>();
+    private final Map<String, List<IndexedPair>> exactPathIndex = new HashMap<>();
+    private final Map<String, List<IndexedPair>> partialIndex = new HashMap<>();
+    private final List<IndexedPair> unindexedPairs = new ArrayList<>();
+
+    SimulationMatcher(Collection<RequestResponsePair> pairs) {
+        int position = 0;
+        for (RequestResponsePair pair : pairs) {
+            final IndexedPair indexedPair = new IndexedPair(position++, pair);
+            final CompiledRequest request = indexedPair.request;
+
+            final String method = exactValue(request.method);
+            final String destination = exactValue(request.destination);
+            final String path = exactValue(request.path);
+            if (method != null && destination != null && path != null) {
+                exactRequestIndex.computeIfAbsent(requestKey(method, destination, path), key -> new ArrayList<>()).add(indexedPair);
+            } else if (path != null) {
+                exactPathIndex.computeIfAbsent(path, key -> new ArrayList<>()).add(indexedPair);
+            } else {
+                final String segment = firstSegment(literalPrefix(pair.getRequest().getPath()));
+                if (destination != null || segment != null) {
+                    partialIndex.computeIfAbsent(partialKey(destination, segment), key -> new ArrayList<>()).add(indexedPair);
+                } else {
+                    unindexedPairs.add(indexedPair);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the first pair, in simulation order, whose request matcher matches the given request
+     */
+    Optional<RequestResponsePair> match(RequestDetails request) {
+        final String path = request.getPath() == null ? "" : request.getPath();
+        final String requestKey = requestKey(request.getMethod(), request.getDestination(), path);
+        final int segmentEnd = path.indexOf('/', 1);
+        final String segment = segmentEnd < 0 ? path : path.substring(0, segmentEnd);
+
+        // Each bucket is in simulation order, so only its first match can be the earliest matching pair
+        IndexedPair earliest = null;
+        for (List<IndexedPair> bucket : Arrays.asList(exactRequestIndex.get(requestKey), exactPathIndex.get(path),
+                partialIndex.get(partialKey(request.getDestination(), segment)), partialIndex.get(partialKey(request.getDestination(), null)),
+                partialIndex.get(partialKey(null, segment)), unindexedPairs)) {
+            if (bucket == null) {
+                continue;
+            }
+            for (IndexedPair candidate : bucket) {
+                if (earliest != null && candidate.position > earliest.position) {
+                    break;
+                }
+                if (candidate.request.test(request)) {
+                    earliest = candidate;
+                    break;
+                }
+            }
+        }
+        return Optional.ofNullable(earliest).map(indexedPair -> indexedPair.pair);
+    }
+
+    /**
+     * Compiles a request matcher, to test any number of requests against it
+     */
+    static Predicate<RequestDetails> compile(Request matcher) {
+        return new CompiledRequest(matcher);
+    }
+
+    /**
+     * Compiles a request matcher, unless any of its field matchers cannot be compiled, and so would not match the way Hoverfly does
+     */
+    static Optional<Predicate<RequestDetails>> tryCompile(Request matcher) {
+        final CompiledRequest request = new CompiledRequest(matcher);
+        return request.isCompiled() ? Optional.of(request) : Optional.empty();
+    }
+
+    static boolean matches(Request matcher, RequestDetails request) {
+        return compile(matcher).test(request);
+    }
+
+    // The value of a matcher which only does an exact match, and so can be looked up in an index
+    private static String exactValue(CompiledFieldMatcher matcher) {
+        return matcher.isExactMatchOnly() ? matcher.getExactMatch() : null;
+    }
+
+    private static String requestKey(String method, String destination, String path) {
+        return method + ' ' + destination + ' ' + path;
+    }
+
+    private static String partialKey(String destination, String segment) {
+        return (destination == null ? "" : destination) + ' ' + (segment == null ? "" : segment);
+    }
+
+    // The text every path matching the matcher starts with, or null if it is not known
+    private static String literalPrefix(FieldMatcher matcher) {
+        if (matcher == null) {
+            return null;
+        }
+        if (matcher.getExactMatch() != null) {
+            return matcher.getExactMatch();
+        }
+        if (matcher.getGlobMatch() != null) {
+            final int wildcard = matcher.getGlobMatch().indexOf('*');
+            return wildcard < 0 ? matcher.getGlobMatch() : matcher.getGlobMatch().substring(0, wildcard);
+        }
+        final String regex = matcher.getRegexMatch();
+        if (regex == null || !regex.startsWith("^") || regex.indexOf('|') >= 0) {
+            return null;
+        }
+        final StringBuilder prefix = new StringBuilder();
+        for (int i = 1; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '/' || c == '-' || c == '_') {
+                prefix.append(c);
+            } else {
+                // A quantifier makes the character before it optional or repeated
+                if ("?*+{".indexOf(c) >= 0 && prefix.length() > 0) {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+        }
+        return prefix.toString();
+    }
+
+    // The first segment of a path prefix, such as /api for /api/bookings/, if the prefix includes all of it
+    private static String firstSegment(String prefix) {
+        if (prefix == null || !prefix.startsWith("/")) {
+            return null;
+        }
+        final int segmentEnd = prefix.indexOf('/', 1);
+        return segmentEnd < 0 ? null : prefix.substring(0, segmentEnd);
+    }
+
+    private static String sortQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        return Arrays.stream(query.split("&"))
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+
+    private static class IndexedPair {
+
+        private final int position;
+        private final RequestResponsePair pair;
+        private final CompiledRequest request;
+
+        private IndexedPair(int position, RequestResponsePair pair) {
+            this.position = position;
+            this.pair = pair;
+            this.request = new CompiledRequest(pair.getRequest());
+        }
+    }
+
+    private static class CompiledRequest implements Predicate<RequestDetails> {
+
+        private final CompiledFieldMatcher method;
+        private final CompiledFieldMatcher scheme;
+        private final CompiledFieldMatcher destination;
+        private final CompiledFieldMatcher path;
+        private final CompiledFieldMatcher query;
+        private final String sortedExactQuery;
+        private final CompiledFieldMatcher body;
+        private final Map<String, List<String>> headers;
+
+        private CompiledRequest(Request request) {
+            this.method = CompiledFieldMatcher.compile(request.getMethod());
+            // Simulations from older Hoverfly versions have a blank scheme, which matches any scheme
+            final FieldMatcher scheme = request.getScheme();
+            this.scheme = CompiledFieldMatcher.compile(scheme != null && "".equals(scheme.getExactMatch()) ? null : scheme);
+            this.destination = CompiledFieldMatcher.compile(request.getDestination());
+            this.path = CompiledFieldMatcher.compile(request.getPath());
+            this.query = CompiledFieldMatcher.compile(request.getQuery());
+            this.sortedExactQuery = request.getQuery() == null || request.getQuery().getExactMatch() == null
+                    ? null : sortQuery(request.getQuery().getExactMatch());
+            this.body = CompiledFieldMatcher.compile(request.getBody());
+            this.headers = request.getHeaders() == null ? Collections.emptyMap() : request.getHeaders();
+        }
+
+        @Override
+        public boolean test(RequestDetails request) {
+            return method.matches(request.getMethod())
+                    && scheme.matches(request.getScheme())
+                    && destination.matches(request.getDestination())
+                    && path.matches(request.getPath())
+                    && matchesQuery(request.getQuery())
+                    && body.matches(request.getBody())
+                    && matchesHeaders(request.getHeaders());
+        }
+
+        private boolean isCompiled() {
+            return method.isCompiled() && scheme.isCompiled() && destination.isCompiled() && path.isCompiled() && query.isCompiled()
+                    && body.isCompiled();
+        }
+
+        // Query parameters can be sent in any order, so they are also matched sorted by name
+        private boolean matchesQuery(String actual) {
+            if (query.matches(actual)) {
+                return true;
+            }
+            final String sortedQuery = sortQuery(actual);
+            if (sortedExactQuery != null) {
+                return sortedExactQuery.equals(sortedQuery);
+            }
+            return query.matches(sortedQuery);
+        }
+
+        // Every expected header value has to be present, header names are case insensitive
+        private boolean matchesHeaders(Map<String, List<String>> actual) {
+            return headers.entrySet().stream().allMatch(header -> {
+                final List<String> values = actual.entrySet().stream()
+                        .filter(e -> e.getKey().equalsIgnoreCase(header.getKey()))
+                        .flatMap(e -> e.getValue().stream())
+                        .collect(Collectors.toList());
+                return values.containsAll(header.getValue() == null ? Collections.emptyList() : header.getValue());
+            });
+        }
+    }
+}
@@ -8,8 +8,10 @@ import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.specto.hoverfly.junit.core.HoverflyUtils.findResourceOnClasspath;
 import static java.util.stream.Collectors.toList;
@@ -17,7 +19,8 @@ import static java.util.stream.Collectors.toSet;
 
 
 /**
- * Interface for converting a resource into a {@link Simulation}
+ * Interface for converting a resource into a {@link Simulation}. Simulations loaded from files and classpath resources are cached
+ * JVM-wide and shared between sources, so they should not be modified.
  */
 @FunctionalInterface
 public interface SimulationSource {
@@ -32,13 +35,13 @@ public interface SimulationSource {
      * @return the resource
      */
     static SimulationSource url(final URL url) {
-        return () -> {
+        return () -> SimulationCache.getInstance().get(url, () -> {
             try {
-                return OBJECT_READER.readValue(url);
+                return SimulationFormat.read(url.openStream());
             } catch (IOException e) {
                 throw new IllegalArgumentException("Cannot read simulation", e);
             }
-        };
+        });
     }
 
     /**
@@ -50,7 +53,7 @@ public interface SimulationSource {
     static SimulationSource url(final String url) {
         return () -> {
             try {
-                return OBJECT_READER.readValue(new URL(url));
+                return url(new URL(url)).getSimulation();
             } catch (IOException e) {
                 throw new IllegalArgumentException("Cannot read simulation", e);
             }
@@ -65,11 +68,14 @@ public interface SimulationSource {
      */
     static SimulationSource classpath(final String classpath) {
         return () -> {
-            try {
-                return OBJECT_READER.readValue(findResourceOnClasspath(classpath));
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Cannot load classpath resource: '" + classpath + "'", e);
-            }
+            final URL resource = findResourceOnClasspath(classpath);
+            return SimulationCache.getInstance().get(resource, () -> {
+                try {
+                    return SimulationFormat.read(resource.openStream());
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Cannot load classpath resource: '" + classpath + "'", e);
+                }
+            });
         };
     }
 
@@ -80,12 +86,14 @@ public interface SimulationSource {
      */
     static SimulationSource defaultPath(String pathString) {
         return () -> {
-            try {
-                final String fullClasspath = HOVERFLY_ROOT + pathString;
-                return OBJECT_READER.readValue(findResourceOnClasspath(fullClasspath));
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Cannot load default path resource: '" + pathString + "'", e);
-            }
+            final URL resource = findResourceOnClasspath(HOVERFLY_ROOT + pathString);
+            return SimulationCache.getInstance().get(resource, () -> {
+                try {
+                    return SimulationFormat.read(resource.openStream());
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Cannot load default path resource: '" + pathString + "'", e);
+                }
+            });
         };
     }
 
@@ -97,11 +105,19 @@ public interface SimulationSource {
      */
     static SimulationSource file(final Path path) {
         return () -> {
+            final URL resource;
             try {
-                return OBJECT_READER.readValue(path.toFile());
+                resource = path.toUri().toURL();
             } catch (IOException e) {
                 throw new IllegalArgumentException("Cannot load file resource: '" + path.toString() + "'", e);
             }
+            return SimulationCache.getInstance().get(resource, () -> {
+                try {
+                    return SimulationFormat.read(Files.newInputStream(path));
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Cannot load file resource: '" + path.toString() + "'", e);
+                }
+            });
         };
     }
 
@@ -139,6 +155,26 @@ public interface SimulationSource {
         return () -> simulation;
     }
 
+    /**
+     * Wraps a simulation source so that the simulation is only created once, on the first call to {@link #getSimulation()}.
+     * Useful for sources which are expensive to build, such as a large {@link #dsl(StubServiceBuilder...)} simulation shared by several tests.
+     * Simulations loaded from files and classpath resources are already cached JVM-wide, until the underlying resource changes.
+     *
+     * @param simulationSource the source to memoise
+     * @return the caching simulation source
+     */
+    static SimulationSource cached(final SimulationSource simulationSource) {
+        final AtomicReference<Simulation> simulation = new AtomicReference<>();
+        return () -> {
+            synchronized (simulation) {
+                if (simulation.get() == null) {
+                    simulation.set(simulationSource.getSimulation());
+                }
+                return simulation.get();
+            }
+        };
+    }
+
     /**
      * Creates no simulation
      *
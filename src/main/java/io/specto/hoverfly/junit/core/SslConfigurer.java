@@ -1,9 +1,15 @@
 package io.specto.hoverfly.junit.core;
 
+import okio.ByteString;
+import okio.Okio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -16,20 +22,25 @@ import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.specto.hoverfly.junit.core.HoverflyUtils.findResourceOnClasspath;
 
 
 /**
- * A component for configuring SSL context to enable HTTPS connection to hoverfly instance
+ * A component for configuring SSL context to enable HTTPS connection to hoverfly instance. The SSL context of each CA certificate is
+ * built once per JVM, keyed by the SHA-256 fingerprint of the certificate file, and shared by every instance which uses it.
  */
 public class SslConfigurer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SslConfigurer.class);
     private static final String TLS_PROTOCOL = "TLSv1.2";
     private static final URL DEFAULT_HOVERFLY_CUSTOM_CA_CERT = findResourceOnClasspath("cert.pem");
+    private static final ConcurrentMap<ByteString, SslConfigurer> SSL_CONTEXTS = new ConcurrentHashMap<>();
 
-    private SSLContext sslContext;
-    private TrustManager[] trustManagers;
+    private volatile SSLContext sslContext;
+    private volatile X509TrustManager trustManager;
 
     SslConfigurer() {
     }
@@ -40,17 +51,8 @@ public class SslConfigurer {
     }
 
     public X509TrustManager getTrustManager() {
-        X509TrustManager trustManager = null;
-        if (trustManagers.length > 0) {
-            if (trustManagers[0] instanceof X509TrustManager) {
-                trustManager = (X509TrustManager) trustManagers[0];
-            }
-        }
-
-        if (trustManager == null) {
-            throw  new IllegalStateException("Trust manager for Hoverfly custom CA cert has not been set.");
-        }
-        return trustManager;
+        return Optional.ofNullable(trustManager)
+                .orElseThrow(() -> new IllegalStateException("Trust manager for Hoverfly custom CA cert has not been set."));
     }
 
     void setDefaultSslContext() {
@@ -64,18 +66,46 @@ public class SslConfigurer {
         setDefaultSslContext(findResourceOnClasspath(pemFilename));
     }
 
-    private void setDefaultSslContext(URL pemFile) {
-        try (InputStream pemInputStream = pemFile.openStream()) {
+    /**
+     * Creates the SSL context which trusts Hoverfly's default SSL certificate, without setting it as the JVM default
+     */
+    void initSslContext() {
+        initSslContext(DEFAULT_HOVERFLY_CUSTOM_CA_CERT);
+    }
 
-            KeyStore trustStore = createTrustStore(pemInputStream);
-            trustManagers = createTrustManagers(trustStore);
+    /**
+     * Creates the SSL context which trusts Hoverfly's SSL certificate, without setting it as the JVM default
+     */
+    void initSslContext(String pemFilename) {
+        initSslContext(findResourceOnClasspath(pemFilename));
+    }
 
-            sslContext = createSslContext(trustManagers);
+    private void setDefaultSslContext(URL pemFile) {
+        initSslContext(pemFile);
+        SSLContext.setDefault(sslContext);
+    }
 
-            SSLContext.setDefault(sslContext);
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to set SSLContext from hoverfly certificate " + pemFile.toString(), e);
+    private void initSslContext(URL pemFile) {
+        final ByteString pem;
+        try (InputStream pemInputStream = pemFile.openStream()) {
+            pem = Okio.buffer(Okio.source(pemInputStream)).readByteString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read hoverfly certificate " + pemFile.toString(), e);
         }
+
+        final SslConfigurer cached = SSL_CONTEXTS.computeIfAbsent(pem.sha256(), fingerprint -> {
+            LOGGER.debug("Creating SSLContext for hoverfly certificate {}", pemFile);
+            try {
+                final SslConfigurer created = new SslConfigurer();
+                created.trustManager = createTrustManager(createTrustStore(new ByteArrayInputStream(pem.toByteArray())));
+                created.sslContext = createSslContext(created.trustManager);
+                return created;
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to set SSLContext from hoverfly certificate " + pemFile.toString(), e);
+            }
+        });
+        trustManager = cached.trustManager;
+        sslContext = cached.sslContext;
     }
 
     private static KeyStore createTrustStore(InputStream pemInputStream) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
@@ -93,12 +123,12 @@ public class SslConfigurer {
     /**
      * Create custom trust manager that verify server authenticity using both default JVM trust store and hoverfly default trust store
      */
-    private TrustManager[] createTrustManagers(KeyStore hoverflyTrustStore) throws NoSuchAlgorithmException, KeyStoreException {
-        TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-        // initialize a trust manager factory with default trust store
-        X509TrustManager defaultTm = getTrustManager(tmf, null);
+    private static X509TrustManager createTrustManager(KeyStore hoverflyTrustStore) throws NoSuchAlgorithmException, KeyStoreException {
+        // the default trust store is loaded once, as it is the same for every hoverfly certificate
+        X509TrustManager defaultTm = DefaultTrustManager.INSTANCE;
 
         // initialize a trust manager factory with hoverfly trust store
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
         X509TrustManager hoverflyTm = getTrustManager(tmf, hoverflyTrustStore);
 
         X509TrustManager customTm = new X509TrustManager() {
@@ -121,16 +151,16 @@ public class SslConfigurer {
                 return defaultTm.getAcceptedIssuers();
             }
         };
-        return new TrustManager[] { customTm };
+        return customTm;
     }
 
-    private SSLContext createSslContext(TrustManager[] trustManagers) throws NoSuchAlgorithmException, KeyManagementException {
+    private static SSLContext createSslContext(X509TrustManager trustManager) throws NoSuchAlgorithmException, KeyManagementException {
         SSLContext sslContext = SSLContext.getInstance(TLS_PROTOCOL);
-        sslContext.init(null, trustManagers, null);
+        sslContext.init(null, new TrustManager[] { trustManager }, null);
         return sslContext;
     }
 
-    private X509TrustManager getTrustManager(TrustManagerFactory trustManagerFactory, KeyStore trustStore) throws KeyStoreException {
+    private static X509TrustManager getTrustManager(TrustManagerFactory trustManagerFactory, KeyStore trustStore) throws KeyStoreException {
         trustManagerFactory.init(trustStore);
 
         TrustManager[] trustManagers = trustManagerFactory.getTrustManagers();
@@ -141,4 +171,18 @@ public class SslConfigurer {
                     .findFirst()
                     .orElseThrow(IllegalStateException::new);
     }
+
+    // Initialised on first use, with the JVM trust store
+    private static class DefaultTrustManager {
+
+        private static final X509TrustManager INSTANCE = create();
+
+        private static X509TrustManager create() {
+            try {
+                return getTrustManager(TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm()), null);
+            } catch (NoSuchAlgorithmException | KeyStoreException e) {
+                throw new IllegalStateException("Failed to load the default trust store", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package io.specto.hoverfly.junit.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the steps of starting {@link Hoverfly} which do not depend on each other at the same time, so starting takes as long as the
+ * slowest chain of steps rather than all of them, and records how long each step took.
+ */
+class StartupPipeline {
+
+    // The steps mostly wait on Hoverfly, files and the network, so are not limited to the number of processors
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "hoverfly-startup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long startTime = System.nanoTime();
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    /**
+     * Runs a step on the calling thread
+     */
+    void run(String step, Runnable action) {
+        final long stepStart = begin(step);
+        try {
+            action.run();
+        } finally {
+            end(step, stepStart);
+        }
+    }
+
+    /**
+     * Starts a step in the background
+     * @return a future of the result of the step
+     */
+    <T> CompletableFuture<T> async(String step, Supplier<T> action) {
+        // Resources such as simulation files are looked up with the context class loader, and pooled threads keep the one of
+        // whichever thread created them
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return CompletableFuture.supplyAsync(() -> {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader threadClassLoader = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            final long stepStart = begin(step);
+            try {
+                return action.get();
+            } finally {
+                end(step, stepStart);
+                thread.setContextClassLoader(threadClassLoader);
+            }
+        }, EXECUTOR);
+    }
+
+    CompletableFuture<Void> async(String step, Runnable action) {
+        return async(step, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for a step to complete, throwing its exception if it failed
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Gets how long each step which has completed took, in the order they were started
+     */
+    synchronized Map<String, Long> getTimings() {
+        return timings.entrySet().stream()
+                .filter(timing -> timing.getValue() >= 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> b, LinkedHashMap::new));
+    }
+
+    @Override
+    public String toString() {
+        return getTimings().entrySet().stream()
+                .map(timing -> timing.getKey() + " " + timing.getValue() + " ms")
+                .collect(Collectors.joining(", "));
+    }
+
+    private synchronized long begin(String step) {
+        timings.put(step, -1L);
+        return System.nanoTime();
+    }
+
+    private synchronized void end(String step, long stepStart) {
+        timings.put(step, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stepStart));
+    }
+}
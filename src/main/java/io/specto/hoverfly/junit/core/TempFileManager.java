@@ -6,14 +6,28 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.specto.hoverfly.junit.core.HoverflyUtils.findResourceOnClasspath;
 import static io.specto.hoverfly.junit.core.SystemConfigFactory.OsName.WINDOWS;
 import static java.nio.file.attribute.PosixFilePermission.OWNER_EXECUTE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
 import static java.util.Arrays.asList;
 
@@ -25,8 +39,29 @@ class TempFileManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(TempFileManager.class);
     private static final String TEMP_DIR_PREFIX = "hoverfly.";
     private static final String HOVERFLY_BINARIES_ROOT_PATH = "binaries/";
+    private static final Path DEFAULT_BINARY_CACHE_DIRECTORY = Paths.get(System.getProperty("user.home"), ".cache", "hoverfly-java");
+    // Digest of each binary resource, so that it is only read once per JVM
+    private static final Map<URL, BinaryDigest> BINARY_DIGESTS = new ConcurrentHashMap<>();
+    // Cached binaries whose checksum has been verified, so that each is only read once per JVM
+    private static final Set<Path> VERIFIED_BINARIES = ConcurrentHashMap.newKeySet();
+    // File locks are held by the JVM, so threads of the same JVM have to be serialized separately
+    private static final Object CACHE_INSTALL_MONITOR = new Object();
+
+    private final Path binaryCacheDirectory;
     private Path tempDirectory;
 
+    TempFileManager() {
+        this(DEFAULT_BINARY_CACHE_DIRECTORY);
+    }
+
+    /**
+     * @param binaryCacheDirectory the directory shared between JVMs to install the hoverfly binary into, or null to always copy
+     *                             the binary into the temporary directory
+     */
+    TempFileManager(Path binaryCacheDirectory) {
+        this.binaryCacheDirectory = binaryCacheDirectory;
+    }
+
     /**
      * Delete the hoverfly temporary directory recursively
      */
@@ -60,24 +95,30 @@ class TempFileManager {
 
     /**
      * Extracts and runs the binary, setting any appropriate permissions.
-     *
+     * The binary is installed once into a cache directory keyed by its SHA-256 checksum and shared by every JVM on the machine.
+     * If the cache directory is not writable, the binary is copied into the temporary directory instead.
      */
     Path copyHoverflyBinary(SystemConfig systemConfig) {
         String binaryName = systemConfig.getHoverflyBinaryName();
         LOGGER.info("Selecting the following binary based on the current operating system: {}", binaryName);
         final URL sourceUrl = findResourceOnClasspath(HOVERFLY_BINARIES_ROOT_PATH + binaryName);
-        final Path targetPath = getOrCreateTempDirectory().resolve(binaryName);
+        // The temporary directory is still the working directory of the hoverfly process
+        final Path tempDirectory = getOrCreateTempDirectory();
+
+        if (binaryCacheDirectory != null) {
+            try {
+                return installHoverflyBinaryInCache(sourceUrl, binaryName, systemConfig);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Failed to install hoverfly binary in cache directory {}, copying it to temporary directory instead: {}",
+                        binaryCacheDirectory, e.getMessage());
+            }
+        }
+
+        final Path targetPath = tempDirectory.resolve(binaryName);
         LOGGER.info("Storing binary in temporary directory {}", targetPath);
-        final File targetFile = targetPath.toFile();
         try {
-            FileUtils.copyURLToFile(sourceUrl, targetFile);
-            if (systemConfig.getOsName() == WINDOWS) {
-                targetFile.setExecutable(true);
-                targetFile.setReadable(true);
-                targetFile.setWritable(true);
-            } else {
-                Files.setPosixFilePermissions(targetPath, new HashSet<>(asList(OWNER_EXECUTE, OWNER_READ)));
-            }
+            FileUtils.copyURLToFile(sourceUrl, targetPath.toFile());
+            setExecutable(targetPath, systemConfig);
         } catch (IOException e) {
             throw new IllegalStateException("Failed to copy hoverfly binary.", e);
         }
@@ -85,6 +126,84 @@ class TempFileManager {
         return targetPath;
     }
 
+    /**
+     * Installs the binary at {@code <cache directory>/<sha256>/<binary name>} unless it is already there. The binary is copied to a
+     * temporary file and renamed atomically while holding a file lock, so concurrent JVMs never see a partially written binary.
+     */
+    private Path installHoverflyBinaryInCache(URL sourceUrl, String binaryName, SystemConfig systemConfig) throws IOException {
+        final BinaryDigest digest = getBinaryDigest(sourceUrl);
+        final Path binaryDirectory = binaryCacheDirectory.resolve(digest.checksum);
+        final Path targetPath = binaryDirectory.resolve(binaryName);
+
+        if (isInstalled(targetPath, digest)) {
+            LOGGER.info("Using cached binary {}", targetPath);
+            return targetPath;
+        }
+
+        Files.createDirectories(binaryDirectory);
+        synchronized (CACHE_INSTALL_MONITOR) {
+            try (FileChannel lockChannel = FileChannel.open(binaryDirectory.resolve(binaryName + ".lock"), CREATE, WRITE);
+                 FileLock ignored = lockChannel.lock()) {
+
+                if (!isInstalled(targetPath, digest)) {
+                    LOGGER.info("Installing binary in cache directory {}", targetPath);
+                    final Path partialPath = Files.createTempFile(binaryDirectory, binaryName, ".partial");
+                    try {
+                        FileUtils.copyURLToFile(sourceUrl, partialPath.toFile());
+                        setExecutable(partialPath, systemConfig);
+                        Files.move(partialPath, targetPath, ATOMIC_MOVE, REPLACE_EXISTING);
+                        VERIFIED_BINARIES.add(targetPath);
+                    } finally {
+                        Files.deleteIfExists(partialPath);
+                    }
+                }
+            }
+        }
+        return targetPath;
+    }
+
+    // The cache directory is shared, so a binary of the right size is only run once its checksum is known to match
+    private static boolean isInstalled(Path binaryPath, BinaryDigest digest) throws IOException {
+        if (!Files.isRegularFile(binaryPath) || !Files.isExecutable(binaryPath) || Files.size(binaryPath) != digest.size) {
+            return false;
+        }
+        if (VERIFIED_BINARIES.contains(binaryPath)) {
+            return true;
+        }
+        final String checksum;
+        try (InputStream inputStream = Files.newInputStream(binaryPath)) {
+            checksum = BinaryDigest.of(inputStream).checksum;
+        }
+        if (!checksum.equals(digest.checksum)) {
+            LOGGER.warn("Cached binary {} does not match its checksum, it will be installed again", binaryPath);
+            return false;
+        }
+        VERIFIED_BINARIES.add(binaryPath);
+        return true;
+    }
+
+    private static BinaryDigest getBinaryDigest(URL sourceUrl) throws IOException {
+        BinaryDigest digest = BINARY_DIGESTS.get(sourceUrl);
+        if (digest == null) {
+            try (InputStream inputStream = sourceUrl.openStream()) {
+                digest = BinaryDigest.of(inputStream);
+            }
+            BINARY_DIGESTS.put(sourceUrl, digest);
+        }
+        return digest;
+    }
+
+    private static void setExecutable(Path path, SystemConfig systemConfig) throws IOException {
+        if (systemConfig.getOsName() == WINDOWS) {
+            final File file = path.toFile();
+            file.setExecutable(true);
+            file.setReadable(true);
+            file.setWritable(true);
+        } else {
+            Files.setPosixFilePermissions(path, new HashSet<>(asList(OWNER_EXECUTE, OWNER_READ)));
+        }
+    }
+
     /**
      * Return the temporary directory as Path
      */
@@ -108,4 +227,41 @@ class TempFileManager {
         return tempDirectory;
     }
 
+    /**
+     * SHA-256 checksum and size of a binary resource
+     */
+    private static final class BinaryDigest {
+
+        private final String checksum;
+        private final long size;
+
+        private BinaryDigest(String checksum, long size) {
+            this.checksum = checksum;
+            this.size = size;
+        }
+
+        private static BinaryDigest of(InputStream source) throws IOException {
+            final MessageDigest messageDigest;
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+
+            long size = 0;
+            try (InputStream inputStream = new DigestInputStream(source, messageDigest)) {
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    size += read;
+                }
+            }
+
+            final StringBuilder checksum = new StringBuilder();
+            for (byte b : messageDigest.digest()) {
+                checksum.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return new BinaryDigest(checksum.toString(), size);
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
+import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import io.specto.hoverfly.junit.verification.HoverflyVerificationError;
+import io.specto.hoverfly.junit.verification.VerificationCriteria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.any;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
+
+/**
+ * Verifies a batch of expectations together, and reports every expectation which is not met in a single {@link HoverflyVerificationError}.
+ * With local verification the journal is downloaded once and all the expectations are matched against it, otherwise the journal searches
+ * for all the expectations are sent to Hoverfly at once rather than one after another.
+ */
+public class Verifier {
+
+    private final HoverflyClient hoverflyClient;
+    private final boolean localVerification;
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    Verifier(HoverflyClient hoverflyClient, boolean localVerification) {
+        this.hoverflyClient = hoverflyClient;
+        this.localVerification = localVerification;
+    }
+
+    public Verifier expect(RequestMatcherBuilder requestMatcher, VerificationCriteria criteria) {
+        expectations.add(new Expectation(requestMatcher.build(), criteria));
+        return this;
+    }
+
+    public Verifier expect(RequestMatcherBuilder requestMatcher) {
+        return expect(requestMatcher, times(1));
+    }
+
+    public Verifier expectZeroRequestTo(StubServiceBuilder requestedServiceBuilder) {
+        return expect(requestedServiceBuilder.anyMethod(any()), never());
+    }
+
+    /**
+     * Verifies all the expectations
+     * @throws HoverflyVerificationError listing every expectation which is not met, in the order they were added
+     */
+    public void check() {
+        if (expectations.isEmpty()) {
+            return;
+        }
+        final List<HoverflyVerificationError> failures = localVerification ? verifyLocally() : verifyOnHoverfly();
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            final StringBuilder message = new StringBuilder()
+                    .append(failures.size()).append(" of ").append(expectations.size()).append(" verifications failed:");
+            for (int i = 0; i < failures.size(); i++) {
+                message.append("\n\n").append(i + 1).append(") ").append(failures.get(i).getMessage());
+            }
+            throw new HoverflyVerificationError(message.toString());
+        }
+    }
+
+    private List<HoverflyVerificationError> verifyLocally() {
+        final JournalVerifier journalVerifier = new JournalVerifier(hoverflyClient.getJournal(), hoverflyClient::searchJournal);
+        return expectations.parallelStream()
+                .map(expectation -> journalVerifier.verify(expectation.request, expectation.criteria))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+    }
+
+    private List<HoverflyVerificationError> verifyOnHoverfly() {
+        final List<CompletableFuture<Optional<HoverflyVerificationError>>> results = expectations.stream()
+                .map(expectation -> hoverflyClient.searchJournalAsync(expectation.request)
+                        .thenApply(journal -> JournalVerifier.verify(expectation.request, expectation.criteria, journal)))
+                .collect(Collectors.toList());
+        try {
+            return results.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class Expectation {
+
+        private final Request request;
+        private final VerificationCriteria criteria;
+
+        private Expectation(Request request, VerificationCriteria criteria) {
+            this.request = request;
+            this.criteria = criteria;
+        }
+    }
+}
@@ -4,8 +4,6 @@ import io.specto.hoverfly.junit.core.Hoverfly;
 import io.specto.hoverfly.junit.core.HoverflyConfig;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
-import java.net.ServerSocket;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -19,7 +17,7 @@ class HoverflyConfigValidator {
 
 
     /**
-     * Sanity checking hoverfly configs and assign port number if necessary
+     * Sanity checking hoverfly configs and assign port number if necessary, which is only leased when Hoverfly starts
      */
     HoverflyConfiguration validate(HoverflyConfiguration hoverflyConfig) {
 
@@ -48,17 +46,27 @@ class HoverflyConfigValidator {
             if (isKeyBlank && !isCertBlank || !isKeyBlank && isCertBlank) {
                 throw new IllegalArgumentException("Both SSL key and certificate files are required to override the default Hoverfly SSL.");
             }
+            if (hoverflyConfig.isEmbedded() && !isCertBlank) {
+                throw new IllegalArgumentException("Embedded Hoverfly does not support HTTPS, so it cannot use an SSL certificate.");
+            }
             // Validate proxy port
             if (hoverflyConfig.getProxyPort() == 0) {
-                hoverflyConfig.setProxyPort(findUnusedPort());
+                hoverflyConfig.setProxyPort(PortAllocator.findUnleasedPort());
+                hoverflyConfig.setDynamicProxyPort(true);
             }
 
-            // Validate admin port
-            if (hoverflyConfig.getAdminPort() == 0) {
-                hoverflyConfig.setAdminPort(findUnusedPort());
+            // Validate admin port, which embedded Hoverfly does not listen on
+            if (hoverflyConfig.getAdminPort() == 0 && !hoverflyConfig.isEmbedded()) {
+                hoverflyConfig.setAdminPort(PortAllocator.findUnleasedPort());
+                hoverflyConfig.setDynamicAdminPort(true);
             }
         }
 
+        // Validate health check timeout
+        if (hoverflyConfig.getHealthCheckTimeout().isNegative() || hoverflyConfig.getHealthCheckTimeout().isZero()) {
+            throw new IllegalArgumentException("Health check timeout must be positive.");
+        }
+
         // Check proxy CA cert exists
         if (hoverflyConfig.getProxyCaCertificate().isPresent()) {
             findResourceOnClasspath(hoverflyConfig.getProxyCaCertificate().get());
@@ -68,17 +76,6 @@ class HoverflyConfigValidator {
     }
 
 
-    /**
-     * Looks for an unused port on the current machine
-     */
-    private static int findUnusedPort() {
-        try (final ServerSocket serverSocket = new ServerSocket(0)) {
-            return serverSocket.getLocalPort();
-        } catch (IOException e) {
-            throw new RuntimeException("Cannot find available port", e);
-        }
-    }
-
     private URL findResourceOnClasspath(String resourceName) {
         final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         return Optional.ofNullable(classLoader.getResource(resourceName))
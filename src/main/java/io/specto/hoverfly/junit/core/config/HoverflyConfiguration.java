@@ -2,8 +2,10 @@ package io.specto.hoverfly.junit.core.config;
 
 import io.specto.hoverfly.junit.core.Hoverfly;
 
+import java.time.Duration;
 import java.util.*;
 
+import static io.specto.hoverfly.junit.core.HoverflyConstants.DEFAULT_HEALTH_CHECK_TIMEOUT;
 import static io.specto.hoverfly.junit.core.HoverflyConstants.HTTP;
 import static io.specto.hoverfly.junit.core.HoverflyConstants.LOCALHOST;
 
@@ -16,6 +18,8 @@ public class HoverflyConfiguration {
     private String host = LOCALHOST;
     private int proxyPort;
     private int adminPort;
+    private boolean dynamicProxyPort;
+    private boolean dynamicAdminPort;
     private boolean proxyLocalHost;
     private String destination;
     private String sslCertificatePath;
@@ -25,6 +29,15 @@ public class HoverflyConfiguration {
     private String adminCertificate;
     private String proxyCaCertificate;
     private List<String> captureHeaders = Collections.emptyList();
+    private boolean reuseProcess;
+    private Duration healthCheckTimeout = DEFAULT_HEALTH_CHECK_TIMEOUT;
+    private boolean streamingExport;
+    private boolean embedded;
+    private boolean localVerification;
+    private boolean captureDelays;
+    private boolean proxySelector;
+    private List<String> proxiedHosts;
+    private boolean scopedSslContext;
 
     /**
      * Create configurations for external hoverfly
@@ -39,7 +52,7 @@ public class HoverflyConfiguration {
                           final String authToken,
                           final String adminCertificate,
                           final List<String> captureHeaders) {
-        this(proxyPort, adminPort, proxyLocalHost, destination, proxyCaCertificate, null, null, captureHeaders);
+        this(proxyPort, adminPort, proxyLocalHost, destination, proxyCaCertificate, null, null, captureHeaders, false);
         setScheme(scheme);
         setHost(host);
         this.authToken = authToken;
@@ -57,7 +70,8 @@ public class HoverflyConfiguration {
                           final String proxyCaCertificate,
                           final String sslCertificatePath,
                           final String sslKeyPath,
-                          final List<String> captureHeaders) {
+                          final List<String> captureHeaders,
+                          final boolean reuseProcess) {
         this.proxyPort = proxyPort;
         this.adminPort = adminPort;
         this.proxyLocalHost = proxyLocalHost;
@@ -66,6 +80,7 @@ public class HoverflyConfiguration {
         this.sslCertificatePath = sslCertificatePath;
         this.sslKeyPath = sslKeyPath;
         this.captureHeaders = captureHeaders;
+        this.reuseProcess = reuseProcess;
     }
 
     /**
@@ -141,12 +156,140 @@ public class HoverflyConfiguration {
         return captureHeaders;
     }
 
+    /**
+     * Whether {@link Hoverfly} should lease its process from a JVM-wide pool instead of starting a new one
+     * @return true if the process is shared
+     */
+    public boolean isReuseProcess() {
+        return reuseProcess;
+    }
+
+    /**
+     * Whether the proxy port was not configured by the user, but allocated by {@link PortAllocator}
+     * @return true if the proxy port can be reallocated
+     */
+    public boolean isDynamicProxyPort() {
+        return dynamicProxyPort;
+    }
+
+    /**
+     * Whether the admin port was not configured by the user, but allocated by {@link PortAllocator}
+     * @return true if the admin port can be reallocated
+     */
+    public boolean isDynamicAdminPort() {
+        return dynamicAdminPort;
+    }
+
+    /**
+     * Gets how long to wait for {@link Hoverfly} to become healthy on start
+     * @return the health check timeout
+     */
+    public Duration getHealthCheckTimeout() {
+        return healthCheckTimeout;
+    }
+
+    /**
+     * Whether simulations are exported by streaming the admin API response to disk
+     * @return true if streaming export is enabled
+     */
+    public boolean isStreamingExport() {
+        return streamingExport;
+    }
+
+    /**
+     * Whether simulations are served by an engine running in the JVM instead of the Hoverfly binary
+     * @return true if the embedded simulation engine is used
+     */
+    public boolean isEmbedded() {
+        return embedded;
+    }
+
+    /**
+     * Whether requests are verified against a journal downloaded once, rather than by searching the journal on {@link Hoverfly}
+     * @return true if requests are verified locally
+     */
+    public boolean isLocalVerification() {
+        return localVerification;
+    }
+
+    /**
+     * Whether exported simulations get delay settings derived from the latency of captured requests
+     * @return true if delays are captured
+     */
+    public boolean isCaptureDelays() {
+        return captureDelays;
+    }
+
+    /**
+     * Whether requests are routed with a {@link io.specto.hoverfly.junit.core.HoverflyProxySelector} instead of the proxy system
+     * properties
+     * @return true if the proxy selector is installed
+     */
+    public boolean isProxySelector() {
+        return proxySelector;
+    }
+
+    /**
+     * Gets the hosts routed by the proxy selector, if they are configured rather than taken from the simulation
+     * @return the hosts, or null to route the destinations of the simulation
+     */
+    public List<String> getProxiedHosts() {
+        return proxiedHosts;
+    }
+
+    /**
+     * Whether the JVM default SSL context is left as it is, rather than replaced with one which trusts the Hoverfly CA certificate
+     * @return true if only clients given the Hoverfly SSL context trust Hoverfly
+     */
+    public boolean isScopedSslContext() {
+        return scopedSslContext;
+    }
+
     void setHost(String host) {
         if (host != null) {
             this.host = host;
         }
     }
 
+    void setHealthCheckTimeout(Duration healthCheckTimeout) {
+        if (healthCheckTimeout != null) {
+            this.healthCheckTimeout = healthCheckTimeout;
+        }
+    }
+
+    void setStreamingExport(boolean streamingExport) {
+        this.streamingExport = streamingExport;
+    }
+
+    void setLocalVerification(boolean localVerification) {
+        this.localVerification = localVerification;
+    }
+
+    void setCaptureDelays(boolean captureDelays) {
+        this.captureDelays = captureDelays;
+    }
+
+    void setProxySelector(boolean proxySelector, List<String> proxiedHosts) {
+        this.proxySelector = proxySelector;
+        this.proxiedHosts = proxiedHosts;
+    }
+
+    void setScopedSslContext(boolean scopedSslContext) {
+        this.scopedSslContext = scopedSslContext;
+    }
+
+    void setEmbedded(boolean embedded) {
+        this.embedded = embedded;
+    }
+
+    void setDynamicProxyPort(boolean dynamicProxyPort) {
+        this.dynamicProxyPort = dynamicProxyPort;
+    }
+
+    void setDynamicAdminPort(boolean dynamicAdminPort) {
+        this.dynamicAdminPort = dynamicAdminPort;
+    }
+
     void setScheme(String scheme) {
         if (scheme != null) {
             this.scheme = scheme;
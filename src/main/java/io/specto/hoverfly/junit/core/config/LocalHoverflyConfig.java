@@ -24,6 +24,8 @@ public class LocalHoverflyConfig extends HoverflyConfig {
     // TODO should be combined field?
     private String sslCertificatePath;
     private String sslKeyPath;
+    private boolean reuseProcess;
+    private boolean embedded;
 
 
     /**
@@ -49,10 +51,37 @@ public class LocalHoverflyConfig extends HoverflyConfig {
         return this;
     }
 
+    /**
+     * Leases an already running Hoverfly process from a JVM-wide pool instead of starting a new one, and returns it to the pool
+     * on close. Simulation, journal and destination are reset between leases, and pooled processes are only destroyed on JVM exit.
+     * @return the {@link LocalHoverflyConfig} for further customizations
+     */
+    public LocalHoverflyConfig reuseProcess() {
+        this.reuseProcess = true;
+        return this;
+    }
+
+    /**
+     * Serves simulations from an HTTP proxy running in the JVM instead of starting the Hoverfly binary, which starts in milliseconds.
+     * It only supports simulate mode and plain HTTP requests, and does not render response templates.
+     * @return the {@link LocalHoverflyConfig} for further customizations
+     */
+    public LocalHoverflyConfig embedded() {
+        this.embedded = true;
+        return this;
+    }
+
     @Override
     public HoverflyConfiguration build() {
         HoverflyConfiguration configs = new HoverflyConfiguration(proxyPort, adminPort, proxyLocalHost, destination,
-                proxyCaCert, sslCertificatePath, sslKeyPath, captureHeaders);
+                proxyCaCert, sslCertificatePath, sslKeyPath, captureHeaders, reuseProcess);
+        configs.setHealthCheckTimeout(healthCheckTimeout);
+        configs.setStreamingExport(streamingExport);
+        configs.setLocalVerification(localVerification);
+        configs.setCaptureDelays(captureDelays);
+        configs.setProxySelector(proxySelector, proxiedHosts);
+        configs.setScopedSslContext(scopedSslContext);
+        configs.setEmbedded(embedded);
         HoverflyConfigValidator validator = new HoverflyConfigValidator();
         return validator.validate(configs);
     }
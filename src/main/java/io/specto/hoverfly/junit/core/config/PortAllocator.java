@@ -0,0 +1,192 @@
+package io.specto.hoverfly.junit.core.config;
+
+import io.specto.hoverfly.junit.core.Hoverfly;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocates unused ports for local {@link Hoverfly} instances. Between finding a free port and the Hoverfly process binding it, the port
+ * is reserved with a lease file in a directory shared by all JVMs on the machine, so parallel test forks never pick the same port.
+ * Leases are released when the port is no longer used, and a lease older than a minute on a port which can be bound is considered stale.
+ */
+public final class PortAllocator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PortAllocator.class);
+    private static final Path LEASE_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "hoverfly-java", "ports");
+    private static final long LEASE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final int MAX_ATTEMPTS = 20;
+    private static final Set<Integer> LEASED_PORTS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> LEASED_PORTS.forEach(PortAllocator::deleteLease)));
+    }
+
+    private PortAllocator() {
+    }
+
+    /**
+     * Finds an unused port on the current machine and leases it
+     * @return the allocated port
+     */
+    public static int allocate() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int port = findUnusedPort();
+            if (!LEASED_PORTS.contains(port) && tryLease(port)) {
+                LEASED_PORTS.add(port);
+                return port;
+            }
+        }
+        throw new IllegalStateException("Cannot find available port after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * Finds an unused port on the current machine which no JVM has leased, without leasing it
+     * @return the port, which is leased by {@link #lease(HoverflyConfiguration)} when Hoverfly starts
+     */
+    public static int findUnleasedPort() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int port = findUnusedPort();
+            if (!LEASED_PORTS.contains(port) && !Files.exists(LEASE_DIRECTORY.resolve(String.valueOf(port)))) {
+                return port;
+            }
+        }
+        throw new IllegalStateException("Cannot find available port after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * Leases the dynamically allocated ports of a configuration, replacing any which have been leased or taken since they were assigned
+     * @param configuration the configuration of a local {@link Hoverfly}
+     */
+    public static void lease(HoverflyConfiguration configuration) {
+        if (configuration.isDynamicProxyPort()) {
+            configuration.setProxyPort(lease(configuration.getProxyPort()));
+        }
+        if (configuration.isDynamicAdminPort()) {
+            configuration.setAdminPort(lease(configuration.getAdminPort()));
+        }
+    }
+
+    /**
+     * Releases the lease on a port allocated by this JVM, does nothing otherwise
+     * @param port the port to release
+     */
+    public static void release(int port) {
+        if (LEASED_PORTS.remove(port)) {
+            deleteLease(port);
+        }
+    }
+
+    /**
+     * Leases new ports in place of the dynamically allocated ports of a configuration
+     * @param configuration the configuration of a local {@link Hoverfly}
+     * @param releaseCurrent whether to release the leases on the current ports, which is not the case if they belong to another process
+     */
+    public static void reallocate(HoverflyConfiguration configuration, boolean releaseCurrent) {
+        if (configuration.isDynamicProxyPort()) {
+            final int proxyPort = allocate();
+            if (releaseCurrent) {
+                release(configuration.getProxyPort());
+            }
+            configuration.setProxyPort(proxyPort);
+        }
+        if (configuration.isDynamicAdminPort()) {
+            final int adminPort = allocate();
+            if (releaseCurrent) {
+                release(configuration.getAdminPort());
+            }
+            configuration.setAdminPort(adminPort);
+        }
+    }
+
+    /**
+     * Points the dynamically allocated ports of a configuration at the ports of an already running process, whose leases are held by
+     * whoever owns that process
+     * @param configuration the configuration of a local {@link Hoverfly}
+     * @param proxyPort the proxy port of the process
+     * @param adminPort the admin port of the process
+     */
+    public static void adopt(HoverflyConfiguration configuration, int proxyPort, int adminPort) {
+        if (configuration.isDynamicProxyPort()) {
+            configuration.setProxyPort(proxyPort);
+        }
+        if (configuration.isDynamicAdminPort()) {
+            configuration.setAdminPort(adminPort);
+        }
+    }
+
+    /**
+     * Checks if a port can be bound on the current machine
+     * @param port the port to check
+     * @return true if the port is not in use
+     */
+    public static boolean isAvailable(int port) {
+        try (ServerSocket ignored = new ServerSocket(port)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int lease(int port) {
+        if (LEASED_PORTS.add(port)) {
+            if (isAvailable(port) && tryLease(port)) {
+                return port;
+            }
+            LEASED_PORTS.remove(port);
+        }
+        return allocate();
+    }
+
+    private static int findUnusedPort() {
+        try (final ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot find available port", e);
+        }
+    }
+
+    private static boolean tryLease(int port) {
+        Path lease = LEASE_DIRECTORY.resolve(String.valueOf(port));
+        try {
+            Files.createDirectories(LEASE_DIRECTORY);
+            try {
+                Files.createFile(lease);
+                return true;
+            } catch (FileAlreadyExistsException e) {
+                if (isStale(lease, port)) {
+                    Files.setLastModifiedTime(lease, FileTime.fromMillis(System.currentTimeMillis()));
+                    return true;
+                }
+                return false;
+            }
+        } catch (IOException e) {
+            // Without a shared lease directory, fall back to relying on the operating system only
+            LOGGER.warn("Failed to lease port {}, so another JVM may pick it as well: {}", port, e.getMessage());
+            return true;
+        }
+    }
+
+    private static boolean isStale(Path lease, int port) throws IOException {
+        long age = System.currentTimeMillis() - Files.getLastModifiedTime(lease).toMillis();
+        return age > LEASE_TIMEOUT_MS && isAvailable(port);
+    }
+
+    private static void deleteLease(int port) {
+        try {
+            Files.deleteIfExists(LEASE_DIRECTORY.resolve(String.valueOf(port)));
+        } catch (IOException e) {
+            LOGGER.debug("Failed to release lease of port {}: {}", port, e.getMessage());
+        }
+    }
+}
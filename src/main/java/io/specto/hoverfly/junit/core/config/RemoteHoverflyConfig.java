@@ -71,6 +71,12 @@ public class RemoteHoverflyConfig extends HoverflyConfig {
         }
         HoverflyConfiguration configs = new HoverflyConfiguration(scheme, host, proxyPort, adminPort, proxyLocalHost,
                 destination, proxyCaCert, authToken, adminCertificate, captureHeaders);
+        configs.setHealthCheckTimeout(healthCheckTimeout);
+        configs.setStreamingExport(streamingExport);
+        configs.setLocalVerification(localVerification);
+        configs.setCaptureDelays(captureDelays);
+        configs.setProxySelector(proxySelector, proxiedHosts);
+        configs.setScopedSslContext(scopedSslContext);
         HoverflyConfigValidator validator = new HoverflyConfigValidator();
         return validator.validate(configs);
     }
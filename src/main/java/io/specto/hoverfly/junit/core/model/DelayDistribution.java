@@ -0,0 +1,250 @@
+package io.specto.hoverfly.junit.core.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A distribution which the delay of each response is sampled from, in milliseconds, rather than always delaying by the same amount.
+ * Sampled delays are kept within the optional minimum and maximum bounds. A distribution without the parameters its type needs is
+ * rejected when it is created, including when a simulation is read, rather than when a delay is sampled.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DelayDistribution {
+
+    public enum Type {
+        @JsonProperty("uniform") UNIFORM,
+        @JsonProperty("normal") NORMAL,
+        @JsonProperty("logNormal") LOG_NORMAL,
+        @JsonProperty("histogram") HISTOGRAM
+    }
+
+    private final Type type;
+    private final Integer min;
+    private final Integer max;
+    private final Integer mean;
+    private final Integer median;
+    private final Integer standardDeviation;
+    private final List<Integer> values;
+
+    private transient int hashCode;
+
+    @JsonCreator
+    public DelayDistribution(@JsonProperty("type") Type type,
+                             @JsonProperty("min") Integer min,
+                             @JsonProperty("max") Integer max,
+                             @JsonProperty("mean") Integer mean,
+                             @JsonProperty("median") Integer median,
+                             @JsonProperty("standardDeviation") Integer standardDeviation,
+                             @JsonProperty("values") List<Integer> values) {
+        checkParameters(type, min, max, mean, median, standardDeviation, values);
+        this.type = type;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.median = median;
+        this.standardDeviation = standardDeviation;
+        if (values == null) {
+            this.values = null;
+        } else {
+            // Sorted, so the typical delay is the median value
+            final List<Integer> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            this.values = Collections.unmodifiableList(sorted);
+        }
+    }
+
+    /**
+     * Delays uniformly distributed between two values
+     */
+    public static DelayDistribution uniform(int min, int max) {
+        return new DelayDistribution(Type.UNIFORM, min, max, null, null, null, null);
+    }
+
+    /**
+     * Delays normally distributed around the mean, which are never negative
+     */
+    public static DelayDistribution normal(int mean, int standardDeviation) {
+        return new DelayDistribution(Type.NORMAL, null, null, mean, null, standardDeviation, null);
+    }
+
+    /**
+     * Log-normally distributed delays, which have the long tail typical of real service latency. The mean is above the median by as much
+     * as the tail is long.
+     */
+    public static DelayDistribution logNormal(int median, int mean) {
+        return new DelayDistribution(Type.LOG_NORMAL, null, null, mean, median, null, null);
+    }
+
+    /**
+     * Delays picked from the given values with equal probability, such as recorded latencies or their percentiles, to replay a recorded
+     * latency distribution
+     */
+    public static DelayDistribution histogram(List<Integer> values) {
+        return new DelayDistribution(Type.HISTOGRAM, null, null, null, null, null, values);
+    }
+
+    /**
+     * Keeps the sampled delays between the given bounds
+     * @return a copy of this distribution with the bounds
+     */
+    public DelayDistribution withBounds(int min, int max) {
+        return new DelayDistribution(type, min, max, mean, median, standardDeviation, values);
+    }
+
+    /**
+     * Samples a delay from the distribution
+     * @param random the source of randomness
+     * @return the delay in milliseconds
+     */
+    public int sample(Random random) {
+        final double delay;
+        switch (type) {
+            case UNIFORM:
+                delay = min + random.nextInt(max - min + 1);
+                break;
+            case NORMAL:
+                delay = mean + random.nextGaussian() * standardDeviation;
+                break;
+            case LOG_NORMAL:
+                // A log-normal distribution with median e^mu has mean e^(mu + sigma^2 / 2)
+                final double sigma = Math.sqrt(2 * Math.log((double) mean / median));
+                delay = median * Math.exp(sigma * random.nextGaussian());
+                break;
+            case HISTOGRAM:
+                delay = values.get(random.nextInt(values.size()));
+                break;
+            default:
+                throw new IllegalStateException("Unknown delay distribution: " + type);
+        }
+        return bound((int) Math.round(Math.min(delay, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Gets the median delay, which is used as the fixed delay wherever distributions are not supported
+     * @return the delay in milliseconds
+     */
+    @JsonIgnore
+    public int getTypicalDelay() {
+        switch (type) {
+            case UNIFORM:
+                return (min + max) / 2;
+            case NORMAL:
+                return bound(mean);
+            case LOG_NORMAL:
+                return bound(median);
+            case HISTOGRAM:
+                return bound(values.get(values.size() / 2));
+            default:
+                throw new IllegalStateException("Unknown delay distribution: " + type);
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Integer getMin() {
+        return min;
+    }
+
+    public Integer getMax() {
+        return max;
+    }
+
+    public Integer getMean() {
+        return mean;
+    }
+
+    public Integer getMedian() {
+        return median;
+    }
+
+    public Integer getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public List<Integer> getValues() {
+        return values;
+    }
+
+    private int bound(int delay) {
+        final int lower = min == null ? 0 : min;
+        final int upper = max == null ? Integer.MAX_VALUE : max;
+        return Math.max(lower, Math.min(upper, delay));
+    }
+
+    private static void checkParameters(Type type, Integer min, Integer max, Integer mean, Integer median, Integer standardDeviation,
+                                        List<Integer> values) {
+        if (type == null) {
+            throw new IllegalArgumentException("Delay distribution needs a type.");
+        }
+        if (min != null && min < 0 || max != null && max < 0 || min != null && max != null && max < min) {
+            throw new IllegalArgumentException("Delay bounds must not be negative, and the minimum must not exceed the maximum.");
+        }
+        switch (type) {
+            case UNIFORM:
+                if (min == null || max == null) {
+                    throw new IllegalArgumentException("Uniform delay needs a minimum and a maximum.");
+                }
+                break;
+            case NORMAL:
+                if (mean == null || standardDeviation == null || mean < 0 || standardDeviation < 0) {
+                    throw new IllegalArgumentException("Normal delay needs a mean and standard deviation, which cannot be negative.");
+                }
+                break;
+            case LOG_NORMAL:
+                if (median == null || mean == null || median <= 0 || mean < median) {
+                    throw new IllegalArgumentException("Log-normal delay needs a positive median which is no more than the mean.");
+                }
+                break;
+            case HISTOGRAM:
+                if (values == null || values.isEmpty() || values.stream().anyMatch(value -> value == null || value < 0)) {
+                    throw new IllegalArgumentException("Histogram delay needs at least one value, and no value can be negative.");
+                }
+                break;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final DelayDistribution other = (DelayDistribution) obj;
+        return hashCode() == other.hashCode()
+                && Objects.equals(type, other.type)
+                && Objects.equals(min, other.min)
+                && Objects.equals(max, other.max)
+                && Objects.equals(mean, other.mean)
+                && Objects.equals(median, other.median)
+                && Objects.equals(standardDeviation, other.standardDeviation)
+                && Objects.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(type, min, max, mean, median, standardDeviation, values);
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -15,25 +15,38 @@ package io.specto.hoverfly.junit.core.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.Objects;
+
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class DelaySettings {
 
     private final String urlPattern;
     private final int delay;
     private final String httpMethod;
+    private final DelayDistribution distribution;
+
+    private transient int hashCode;
+
 
+    public DelaySettings(String urlPattern, int delay, String httpMethod) {
+        this(urlPattern, delay, httpMethod, null);
+    }
 
+    /**
+     * @param distribution the distribution which each delay is sampled from, where supported, in which case the fixed delay is used by
+     *                     a Hoverfly which does not support it
+     */
     @JsonCreator
     public DelaySettings(@JsonProperty("urlPattern") String urlPattern,
                          @JsonProperty("delay") int delay,
-                         @JsonProperty("httpMethod") String httpMethod) {
+                         @JsonProperty("httpMethod") String httpMethod,
+                         @JsonProperty("distribution") DelayDistribution distribution) {
         this.urlPattern = urlPattern;
         this.delay = delay;
         this.httpMethod = httpMethod;
+        this.distribution = distribution;
     }
 
     public String getUrlPattern() {
@@ -48,14 +61,34 @@ public class DelaySettings {
         return httpMethod;
     }
 
+    public DelayDistribution getDistribution() {
+        return distribution;
+    }
+
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final DelaySettings other = (DelaySettings) obj;
+        return hashCode() == other.hashCode()
+                && Objects.equals(urlPattern, other.urlPattern)
+                && delay == other.delay
+                && Objects.equals(httpMethod, other.httpMethod)
+                && Objects.equals(distribution, other.distribution);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(urlPattern, delay, httpMethod, distribution);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -1,8 +1,6 @@
 package io.specto.hoverfly.junit.core.model;
 
 import com.fasterxml.jackson.annotation.*;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.Arrays;
@@ -22,6 +20,8 @@ public class FieldMatcher {
     private final String xmlMatch;
     private final String xpathMatch;
 
+    private transient int hashCode;
+
 
     @JsonCreator
     public FieldMatcher(@JsonProperty("exactMatch") String exactMatch,
@@ -154,12 +154,31 @@ public class FieldMatcher {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final FieldMatcher other = (FieldMatcher) obj;
+        return hashCode() == other.hashCode()
+                && Objects.equals(exactMatch, other.exactMatch)
+                && Objects.equals(globMatch, other.globMatch)
+                && Objects.equals(regexMatch, other.regexMatch)
+                && Objects.equals(jsonMatch, other.jsonMatch)
+                && Objects.equals(jsonPathMatch, other.jsonPathMatch)
+                && Objects.equals(xmlMatch, other.xmlMatch)
+                && Objects.equals(xpathMatch, other.xpathMatch);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(exactMatch, globMatch, regexMatch, jsonMatch, jsonPathMatch, xmlMatch, xpathMatch);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
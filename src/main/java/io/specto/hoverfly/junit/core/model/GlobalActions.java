@@ -20,6 +20,8 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -29,7 +31,7 @@ public class GlobalActions {
 
     @JsonCreator
     public GlobalActions(@JsonProperty("delays") List<DelaySettings> delays) {
-        this.delays = delays;
+        this.delays = delays == null ? null : Collections.unmodifiableList(new ArrayList<>(delays));
     }
 
     public List<DelaySettings> getDelays() {
@@ -0,0 +1,25 @@
+package io.specto.hoverfly.junit.core.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies the headers given to the model, which are often the maps of a builder that is still being used
+ */
+class Headers {
+
+    private Headers() {
+    }
+
+    static Map<String, List<String>> immutableCopyOf(Map<String, List<String>> headers) {
+        if (headers == null) {
+            return null;
+        }
+        final Map<String, List<String>> copy = new LinkedHashMap<>(headers.size() * 4 / 3 + 1);
+        headers.forEach((name, values) -> copy.put(name, values == null ? null : Collections.unmodifiableList(new ArrayList<>(values))));
+        return Collections.unmodifiableMap(copy);
+    }
+}
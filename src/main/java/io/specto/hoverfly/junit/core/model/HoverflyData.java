@@ -19,6 +19,8 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -29,7 +31,8 @@ public class HoverflyData {
     @JsonCreator
     public HoverflyData(@JsonProperty("pairs") Set<RequestResponsePair> pairs,
                         @JsonProperty("globalActions") GlobalActions globalActions) {
-        this.pairs = pairs;
+        // Simulations are shared, such as by the cache of simulation files, so must not be changed once created
+        this.pairs = pairs == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(pairs));
         this.globalActions = globalActions;
     }
 
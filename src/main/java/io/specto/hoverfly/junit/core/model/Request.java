@@ -19,13 +19,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static io.specto.hoverfly.junit.core.model.FieldMatcher.fromString;
 
@@ -46,8 +45,10 @@ public class Request {
     @JsonDeserialize(using = FieldMatcherDeserializer.class)
     private final FieldMatcher body;
     private final Map<String, List<String>> headers;
+    private final RequestType requestType;
 
-    private RequestType requestType;
+    // Cached, as requests are immutable and hashed with every pair
+    private transient int hashCode;
 
     @Deprecated
     public Request(String path,
@@ -63,25 +64,37 @@ public class Request {
         this.scheme = fromString(scheme);
         this.query = fromString(query);
         this.body = fromString(body);
-        this.headers = headers;
+        this.headers = Headers.immutableCopyOf(headers);
+        this.requestType = null;
     }
 
+    public Request(FieldMatcher path,
+                   FieldMatcher method,
+                   FieldMatcher destination,
+                   FieldMatcher scheme,
+                   FieldMatcher query,
+                   FieldMatcher body,
+                   Map<String, List<String>> headers) {
+        this(path, method, destination, scheme, query, body, headers, null);
+    }
 
     @JsonCreator
-    public Request(@JsonProperty("path") FieldMatcher path,
-                   @JsonProperty("method") FieldMatcher method,
-                   @JsonProperty("destination") FieldMatcher destination,
-                   @JsonProperty("scheme") FieldMatcher scheme,
-                   @JsonProperty("query") FieldMatcher query,
-                   @JsonProperty("body") FieldMatcher body,
-                   @JsonProperty("headers") Map<String, List<String>> headers) {
+    Request(@JsonProperty("path") FieldMatcher path,
+            @JsonProperty("method") FieldMatcher method,
+            @JsonProperty("destination") FieldMatcher destination,
+            @JsonProperty("scheme") FieldMatcher scheme,
+            @JsonProperty("query") FieldMatcher query,
+            @JsonProperty("body") FieldMatcher body,
+            @JsonProperty("headers") Map<String, List<String>> headers,
+            @JsonProperty("requestType") RequestType requestType) {
         this.path = path;
         this.method = method;
         this.destination = destination;
         this.scheme = scheme;
         this.query = query;
         this.body = body;
-        this.headers = headers;
+        this.headers = Headers.immutableCopyOf(headers);
+        this.requestType = requestType;
     }
 
     public FieldMatcher getPath() {
@@ -117,10 +130,6 @@ public class Request {
         return requestType;
     }
 
-    public void setRequestType(RequestType requestType) {
-        this.requestType = requestType;
-    }
-
     public static class Builder {
 
         private FieldMatcher path;
@@ -171,14 +180,34 @@ public class Request {
         }
     }
 
+    // The request type only affects how a request is serialized, so it is not compared
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj, "requestType");
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Request other = (Request) obj;
+        return hashCode() == other.hashCode()
+                && Objects.equals(path, other.path)
+                && Objects.equals(method, other.method)
+                && Objects.equals(destination, other.destination)
+                && Objects.equals(scheme, other.scheme)
+                && Objects.equals(query, other.query)
+                && Objects.equals(body, other.body)
+                && Objects.equals(headers, other.headers);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this, "requestType");
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(path, method, destination, scheme, query, body, headers);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -15,15 +15,18 @@ package io.specto.hoverfly.junit.core.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.Objects;
+
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class RequestResponsePair {
     private final Request request;
     private final Response response;
 
+    // Cached, as simulations and the DSL collect pairs into hash sets
+    private transient int hashCode;
+
     @JsonCreator
     public RequestResponsePair(@JsonProperty("request") Request request,
                                @JsonProperty("response") Response response) {
@@ -41,12 +44,26 @@ public class RequestResponsePair {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final RequestResponsePair other = (RequestResponsePair) obj;
+        return hashCode() == other.hashCode()
+                && Objects.equals(request, other.request)
+                && Objects.equals(response, other.response);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(request, response);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -16,12 +16,11 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -32,6 +31,8 @@ public class Response {
     private final boolean templated;
     private final Map<String, List<String>> headers;
 
+    private transient int hashCode;
+
     @JsonCreator
     public Response(@JsonProperty("status") Integer status,
                     @JsonProperty("body") String body,
@@ -42,7 +43,7 @@ public class Response {
         this.body = body;
         this.encodedBody = encodedBody;
         this.templated = templated;
-        this.headers = headers;
+        this.headers = Headers.immutableCopyOf(headers);
     }
 
     public int getStatus() {
@@ -105,12 +106,29 @@ public class Response {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Response other = (Response) obj;
+        return hashCode() == other.hashCode()
+                && Objects.equals(status, other.status)
+                && Objects.equals(body, other.body)
+                && encodedBody == other.encodedBody
+                && templated == other.templated
+                && Objects.equals(headers, other.headers);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = hashCode;
+        if (result == 0) {
+            result = Objects.hash(status, body, encodedBody, templated, headers);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -26,10 +26,10 @@ import java.util.HashSet;
 public class Simulation {
 
     @JsonProperty("data")
-    private HoverflyData hoverflyData;
+    private final HoverflyData hoverflyData;
 
     @JsonProperty("meta")
-    private HoverflyMetaData hoverflyMetaData;
+    private final HoverflyMetaData hoverflyMetaData;
 
     @JsonCreator
     public Simulation(@JsonProperty("data") HoverflyData hoverflyData,
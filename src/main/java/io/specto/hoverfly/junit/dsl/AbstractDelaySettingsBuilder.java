@@ -1,15 +1,26 @@
 package io.specto.hoverfly.junit.dsl;
 
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+
 import java.util.concurrent.TimeUnit;
 
 public class AbstractDelaySettingsBuilder {
     private final int delay;
     private final TimeUnit delayTimeUnit;
+    private final DelayDistribution distribution;
 
 
     public AbstractDelaySettingsBuilder(int delay, TimeUnit delayTimeUnit) {
         this.delay = delay;
         this.delayTimeUnit = delayTimeUnit;
+        this.distribution = null;
+    }
+
+    public AbstractDelaySettingsBuilder(DelayDistribution distribution) {
+        this.delay = 0;
+        this.delayTimeUnit = null;
+        this.distribution = distribution;
     }
 
     protected String toPattern(String value) {
@@ -18,10 +29,14 @@ public class AbstractDelaySettingsBuilder {
 
     protected int getConvertedDelay() {
         assert isValid();
-        return (int) delayTimeUnit.toMillis(delay);
+        return distribution != null ? distribution.getTypicalDelay() : (int) delayTimeUnit.toMillis(delay);
     }
 
     protected boolean isValid() {
-        return delayTimeUnit != null && delay > 0;
+        return distribution != null || delayTimeUnit != null && delay > 0;
+    }
+
+    protected DelaySettings createDelaySettings(String urlPattern, String httpMethod) {
+        return new DelaySettings(toPattern(urlPattern), getConvertedDelay(), httpMethod, distribution);
     }
 }
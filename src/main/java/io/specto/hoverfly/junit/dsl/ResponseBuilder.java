@@ -12,6 +12,7 @@
  */
 package io.specto.hoverfly.junit.dsl;
 
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
 import io.specto.hoverfly.junit.core.model.Response;
 
 import java.util.HashMap;
@@ -35,6 +36,7 @@ public class ResponseBuilder {
 
     private int delay;
     private TimeUnit delayTimeUnit;
+    private DelayDistribution delayDistribution;
 
     ResponseBuilder() {
     }
@@ -108,11 +110,24 @@ public class ResponseBuilder {
     public ResponseBuilder withDelay(int delay, TimeUnit delayTimeUnit) {
         this.delay = delay;
         this.delayTimeUnit = delayTimeUnit;
+        this.delayDistribution = null;
+        return this;
+    }
+
+    /**
+     * Sets a delay which varies between responses.
+     * @param delayDistribution the distribution each delay is sampled from (e.g. {@link DelayDistribution#logNormal(int, int)})
+     * @return the {@link ResponseBuilder for further customizations}
+     */
+    public ResponseBuilder withDelay(DelayDistribution delayDistribution) {
+        this.delayDistribution = delayDistribution;
         return this;
     }
 
     ResponseDelaySettingsBuilder addDelay() {
-        return new ResponseDelaySettingsBuilder(delay, delayTimeUnit);
+        return delayDistribution != null
+                ? new ResponseDelaySettingsBuilder(delayDistribution)
+                : new ResponseDelaySettingsBuilder(delay, delayTimeUnit);
     }
 }
 
@@ -1,6 +1,6 @@
 package io.specto.hoverfly.junit.dsl;
 
-import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
 import io.specto.hoverfly.junit.core.model.Request;
 
 import java.util.concurrent.TimeUnit;
@@ -13,6 +13,10 @@ public class ResponseDelaySettingsBuilder extends AbstractDelaySettingsBuilder {
         super(delay, delayTimeUnit);
     }
 
+    ResponseDelaySettingsBuilder(DelayDistribution distribution) {
+        super(distribution);
+    }
+
     public ResponseDelaySettingsBuilder to(StubServiceBuilder invoker) {
         this.invoker = invoker;
         return this;
@@ -21,7 +25,7 @@ public class ResponseDelaySettingsBuilder extends AbstractDelaySettingsBuilder {
     void forRequest(Request request) {
         if (isValid()) {
             String path = request.getDestination().getMatchPattern() + request.getPath().getMatchPattern();
-            invoker.addDelaySetting(new DelaySettings(toPattern(path), getConvertedDelay(), null));
+            invoker.addDelaySetting(createDelaySettings(path, null));
         }
     }
 
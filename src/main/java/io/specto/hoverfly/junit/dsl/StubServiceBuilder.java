@@ -178,6 +178,16 @@ public class StubServiceBuilder {
         return new StubServiceDelaySettingsBuilder(delay, delayTimeUnit, this);
     }
 
+    /**
+     * Adds service wide delay settings, with a delay which varies between responses.
+     *
+     * @param delayDistribution the distribution each delay is sampled from (e.g. {@link DelayDistribution#logNormal(int, int)})
+     * @return delay settings builder
+     */
+    public StubServiceDelaySettingsBuilder andDelay(DelayDistribution delayDistribution) {
+        return new StubServiceDelaySettingsBuilder(delayDistribution, this);
+    }
+
     /**
      * Used to initialize {@link GlobalActions}.
      *
@@ -1,6 +1,6 @@
 package io.specto.hoverfly.junit.dsl;
 
-import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
 
 import java.util.concurrent.TimeUnit;
 
@@ -13,10 +13,15 @@ public class StubServiceDelaySettingsBuilder extends AbstractDelaySettingsBuilde
         this.invoker = invoker;
     }
 
+    StubServiceDelaySettingsBuilder(DelayDistribution distribution, StubServiceBuilder invoker) {
+        super(distribution);
+        this.invoker = invoker;
+    }
+
     public StubServiceBuilder forAll() {
         if (isValid()) {
             String destination = invoker.getDestination();
-            invoker.addDelaySetting(new DelaySettings(toPattern(destination), getConvertedDelay(), null));
+            invoker.addDelaySetting(createDelaySettings(destination, null));
         }
         return invoker;
     }
@@ -24,7 +29,7 @@ public class StubServiceDelaySettingsBuilder extends AbstractDelaySettingsBuilde
     public StubServiceBuilder forMethod(String method) {
         if (isValid()) {
             String destination = invoker.getDestination();
-            invoker.addDelaySetting(new DelaySettings(toPattern(destination), getConvertedDelay(), method));
+            invoker.addDelaySetting(createDelaySettings(destination, method));
         }
         return invoker;
     }
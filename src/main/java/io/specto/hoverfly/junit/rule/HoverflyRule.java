@@ -16,6 +16,7 @@ import io.specto.hoverfly.junit.core.*;
 import io.specto.hoverfly.junit.dsl.HoverflyDsl;
 import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
 import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import io.specto.hoverfly.junit.stats.JournalStats;
 import io.specto.hoverfly.junit.verification.VerificationCriteria;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -28,11 +29,13 @@ import org.slf4j.LoggerFactory;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 
 import static io.specto.hoverfly.junit.core.HoverflyConfig.configs;
 import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
 import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
+import static io.specto.hoverfly.junit.core.SimulationSource.cached;
 import static io.specto.hoverfly.junit.core.SimulationSource.empty;
 import static io.specto.hoverfly.junit.core.SimulationSource.file;
 import static io.specto.hoverfly.junit.rule.HoverflyRuleUtils.*;
@@ -212,10 +215,13 @@ public class HoverflyRule extends ExternalResource {
      */
     @Override
     protected void before() throws Throwable {
-        hoverfly.start();
-
         if (hoverflyMode == SIMULATE) {
-            importSimulation();
+            // Let Hoverfly create the simulation while it boots
+            final SimulationSource source = simulationSourceToImport();
+            hoverfly.start(source);
+            printSimulation(source);
+        } else {
+            hoverfly.start();
         }
     }
 
@@ -245,6 +251,14 @@ public class HoverflyRule extends ExternalResource {
     public SslConfigurer getSslConfigurer() {
         return hoverfly.getSslConfigurer();
     }
+
+    /**
+     * Gets a proxy selector which routes requests through Hoverfly only if their destination is simulated
+     * @return the proxy selector
+     */
+    public HoverflyProxySelector getProxySelector() {
+        return hoverfly.getProxySelector();
+    }
     /**
      * Gets started Hoverfly mode
      *
@@ -323,10 +337,22 @@ public class HoverflyRule extends ExternalResource {
         hoverfly.verifyAll();
     }
 
+    public void verifyAll(Map<RequestMatcherBuilder, VerificationCriteria> expectations) {
+        hoverfly.verifyAll(expectations);
+    }
+
+    public Verifier verifier() {
+        return hoverfly.verifier();
+    }
+
     public void resetJournal() {
         hoverfly.resetJournal();
     }
 
+    public JournalStats getJournalStats() {
+        return hoverfly.getJournalStats();
+    }
+
     private void checkMode(HoverflyMode mode) {
         if (hoverflyMode != mode) {
             throw new HoverflyRuleException("Hoverfly must be in " + mode.name() + " mode for this operation.");
@@ -334,16 +360,23 @@ public class HoverflyRule extends ExternalResource {
     }
 
     private void importSimulation() {
+        final SimulationSource source = simulationSourceToImport();
+        hoverfly.importSimulation(source);
+        printSimulation(source);
+    }
+
+    private SimulationSource simulationSourceToImport() {
         if (simulationSource == null) {
             simulationSource = empty();
         }
+        // Print the same simulation as imported, rather than creating it twice
+        return enableSimulationPrint ? cached(simulationSource) : simulationSource;
+    }
 
-        hoverfly.importSimulation(simulationSource);
-
+    private void printSimulation(SimulationSource source) {
         if (enableSimulationPrint) {
-            prettyPrintJson(simulationSource.getSimulation());
+            prettyPrintJson(source.getSimulation());
         }
-
     }
 
     static class HoverflyRuleException extends RuntimeException {
@@ -0,0 +1,131 @@
+package io.specto.hoverfly.junit.stats;
+
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Latency and throughput statistics of the requests in a journal, per destination and path and overall. The statistics are updated one
+ * journal entry at a time, using a fixed amount of memory per endpoint and per throughput window, so a journal can be streamed through
+ * them without holding it in memory.
+ */
+public class JournalStats {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+
+    private final long windowMillis;
+    private final LatencyHistogram overall = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> endpoints = new TreeMap<>();
+    private final SortedMap<LocalDateTime, Long> throughput = new TreeMap<>();
+
+    public JournalStats() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window the length of the time windows which throughput is counted in
+     */
+    public JournalStats(Duration window) {
+        if (window.toMillis() <= 0) {
+            throw new IllegalArgumentException("Throughput window must be at least one millisecond.");
+        }
+        this.windowMillis = window.toMillis();
+    }
+
+    public static JournalStats of(Stream<JournalEntry> entries) {
+        return of(entries, DEFAULT_WINDOW);
+    }
+
+    public static JournalStats of(Stream<JournalEntry> entries, Duration window) {
+        final JournalStats stats = new JournalStats(window);
+        entries.forEachOrdered(stats::record);
+        return stats;
+    }
+
+    /**
+     * Adds a journal entry to the statistics. Entries without a latency are only counted for throughput, and entries without a start time
+     * only for latency.
+     * @param entry the journal entry
+     */
+    public void record(JournalEntry entry) {
+        if (entry.getLatency() != null) {
+            final RequestDetails request = entry.getRequest();
+            final String endpoint = request == null ? "" : endpoint(request.getDestination(), request.getPath());
+            endpoints.computeIfAbsent(endpoint, key -> new LatencyHistogram()).record(entry.getLatency());
+            overall.record(entry.getLatency());
+        }
+        if (entry.getTimeStarted() != null) {
+            throughput.merge(windowStart(entry.getTimeStarted()), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Gets the latencies of all the requests
+     */
+    public LatencyHistogram getOverall() {
+        return overall;
+    }
+
+    /**
+     * Gets the latencies of the requests to a destination and path
+     * @param destination the destination, such as {@code api.flight.com}
+     * @param path the path, such as {@code /api/bookings}
+     * @return the latencies, or empty if there was no request to the endpoint
+     */
+    public Optional<LatencyHistogram> getEndpoint(String destination, String path) {
+        return Optional.ofNullable(endpoints.get(endpoint(destination, path)));
+    }
+
+    /**
+     * Gets the latencies of the requests to each endpoint, keyed by destination and path, such as {@code api.flight.com/api/bookings}
+     */
+    public Map<String, LatencyHistogram> getEndpoints() {
+        return Collections.unmodifiableMap(endpoints);
+    }
+
+    /**
+     * Gets the number of requests started in each time window which had any, keyed by the start of the window
+     */
+    public SortedMap<LocalDateTime, Long> getThroughput() {
+        return Collections.unmodifiableSortedMap(throughput);
+    }
+
+    /**
+     * Gets the throughput of the busiest time window
+     * @return requests per second
+     */
+    public double getPeakThroughput() {
+        return throughput.values().stream()
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0) * 1000.0 / windowMillis;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Overall: ").append(overall);
+        endpoints.forEach((endpoint, latencies) -> sb.append('\n').append(endpoint).append(": ").append(latencies));
+        return sb.append("\nPeak throughput: ").append(String.format("%.1f", getPeakThroughput())).append(" requests/s").toString();
+    }
+
+    private static String endpoint(String destination, String path) {
+        return (destination == null ? "" : destination) + (path == null ? "" : path);
+    }
+
+    private LocalDateTime windowStart(LocalDateTime time) {
+        final long millis = time.toInstant(ZoneOffset.UTC).toEpochMilli();
+        final long start = Math.floorDiv(millis, windowMillis) * windowMillis;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(start, 1000), 0, ZoneOffset.UTC)
+                .plus(Math.floorMod(start, 1000), ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,121 @@
+package io.specto.hoverfly.junit.stats;
+
+/**
+ * A histogram of latencies in milliseconds which uses a fixed amount of memory however many values are recorded. Values below 128 are
+ * counted exactly, and larger values in buckets which are at most 1/64th of their value wide, so percentiles are accurate to within 1.6%.
+ */
+public class LatencyHistogram {
+
+    // Each power of two range above the exact range is split into this many buckets
+    private static final int SUB_BUCKET_HALF_COUNT = 64;
+    private static final int SUB_BUCKET_COUNT = 2 * SUB_BUCKET_HALF_COUNT;
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_HALF_COUNT);
+    private static final int BUCKET_COUNT = Integer.SIZE - 1 - SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(BUCKET_COUNT + 1) * SUB_BUCKET_HALF_COUNT];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max;
+
+    /**
+     * Records a latency
+     * @param latency the latency in milliseconds
+     */
+    public void record(int latency) {
+        if (latency < 0) {
+            throw new IllegalArgumentException("Latency cannot be negative: " + latency);
+        }
+        counts[indexOf(latency)]++;
+        count++;
+        sum += latency;
+        min = Math.min(min, latency);
+        max = Math.max(max, latency);
+    }
+
+    /**
+     * Adds all the latencies recorded by another histogram to this one
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets the latency which the given percentage of the recorded latencies are less than or equal to
+     * @param percentile the percentage, from 0 to 100
+     * @return the latency in milliseconds, or 0 if nothing is recorded
+     */
+    public int getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    public int getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    public int getP90() {
+        return getValueAtPercentile(90);
+    }
+
+    public int getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%dms, p90=%dms, p99=%dms, max=%dms", count, getP50(), getP90(), getP99(), max);
+    }
+
+    private static int indexOf(int value) {
+        final int bucket = Math.max(0, Integer.SIZE - Integer.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        final int subBucket = value >>> bucket;
+        return bucket == 0 ? subBucket : (bucket + 1) * SUB_BUCKET_HALF_COUNT + subBucket - SUB_BUCKET_HALF_COUNT;
+    }
+
+    // The highest value counted at an index, which is reported for percentiles so they are never underestimated
+    private static int highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int bucket = index / SUB_BUCKET_HALF_COUNT - 1;
+        final long lowest = (long) (index % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT) << bucket;
+        return (int) Math.min(Integer.MAX_VALUE, lowest + (1L << bucket) - 1);
+    }
+}
@@ -5,6 +5,9 @@ import org.apache.commons.lang3.StringUtils;
 
 public class HoverflyVerifications {
 
+    // Enough requests to see what was sent, without building a huge message from a long journal
+    private static final int MAX_REPORTED_REQUESTS = 10;
+
     private HoverflyVerifications() {
     }
 
@@ -86,8 +89,12 @@ public class HoverflyVerifications {
         }
 
         data.getJournal().getEntries().stream()
+                .limit(MAX_REPORTED_REQUESTS)
                 .map(VerificationUtils::format)
                 .forEach(formatted -> sb.append(formatted).append("\n"));
+        if (actual > MAX_REPORTED_REQUESTS) {
+            sb.append("... and ").append(actual - MAX_REPORTED_REQUESTS).append(" more.\n");
+        }
 
         throw new HoverflyVerificationError(sb.toString());
     }
@@ -0,0 +1,55 @@
+package io.specto.hoverfly.junit.api;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.GzipSource;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class GzipRequestInterceptorTest {
+
+    private final Interceptor.Chain chain = mock(Interceptor.Chain.class);
+    private final GzipRequestInterceptor interceptor = new GzipRequestInterceptor();
+
+    @Test
+    public void shouldCompressRequestBody() throws Exception {
+        Request request = new Request.Builder()
+                .url("http://localhost:8888/api/v2/simulation")
+                .put(RequestBody.create(MediaType.parse("application/json"), "{\"data\":{}}"))
+                .build();
+        when(chain.request()).thenReturn(request);
+
+        interceptor.intercept(chain);
+
+        Request compressed = proceededRequest();
+        assertThat(compressed.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(compressed.body().contentType()).isEqualTo(request.body().contentType());
+        Buffer sink = new Buffer();
+        compressed.body().writeTo(sink);
+        Buffer decompressed = new Buffer();
+        new GzipSource(sink).read(decompressed, Long.MAX_VALUE);
+        assertThat(decompressed.readUtf8()).isEqualTo("{\"data\":{}}");
+    }
+
+    @Test
+    public void shouldNotChangeRequestWithoutBody() throws Exception {
+        Request request = new Request.Builder().url("http://localhost:8888/api/v2/simulation").get().build();
+        when(chain.request()).thenReturn(request);
+
+        interceptor.intercept(chain);
+
+        assertThat(proceededRequest()).isSameAs(request);
+    }
+
+    private Request proceededRequest() throws Exception {
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(chain).proceed(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,99 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JournalEntryIteratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldReadJournalEntries() throws Exception {
+        try (Stream<JournalEntry> entries = new JournalEntryIterator(objectMapper, Resources.getResource("sample-journal.json").openStream()).stream()) {
+            List<JournalEntry> journal = entries.collect(Collectors.toList());
+
+            assertThat(journal).hasSize(1);
+            assertThat(journal.get(0).getRequest().getDestination()).isEqualTo("hoverfly.io");
+            assertThat(journal.get(0).getResponse().getStatus()).isEqualTo(502);
+            assertThat(journal.get(0).getLatency()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void shouldSkipOtherFieldsAroundJournal() throws Exception {
+        String json = "{\"offset\":0,\"meta\":{\"journal\":[1]},\"journal\":[" + entry("/1") + "," + entry("/2") + "],\"total\":2}";
+
+        try (Stream<JournalEntry> entries = new JournalEntryIterator(objectMapper, toStream(json)).stream()) {
+            assertThat(entries.map(entry -> entry.getRequest().getPath())).containsExactly("/1", "/2");
+        }
+    }
+
+    @Test
+    public void shouldBeEmptyWithoutJournal() throws Exception {
+        assertThat(new JournalEntryIterator(objectMapper, toStream("{\"journal\":null}")).hasNext()).isFalse();
+        assertThat(new JournalEntryIterator(objectMapper, toStream("{\"journal\":[]}")).hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldCloseStreamOnceAllEntriesAreRead() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream inputStream = new ByteArrayInputStream(("{\"journal\":[" + entry("/1") + "]}").getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+            }
+        };
+        JournalEntryIterator iterator = new JournalEntryIterator(objectMapper, inputStream);
+
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    public void shouldOnlyParseEntriesWhichAreRead() throws Exception {
+        String entries = IntStream.range(0, 3).mapToObj(i -> entry("/" + i)).collect(Collectors.joining(","));
+        String json = "{\"journal\":[" + entries + ",{\"latency\":\"not a number\"}]}";
+
+        JournalEntryIterator iterator = new JournalEntryIterator(objectMapper, toStream(json));
+        try (Stream<JournalEntry> stream = iterator.stream()) {
+            assertThat(stream.limit(3).map(entry -> entry.getRequest().getPath())).containsExactly("/0", "/1", "/2");
+        }
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldFailOnMalformedEntry() throws Exception {
+        JournalEntryIterator iterator = new JournalEntryIterator(objectMapper, toStream("{\"journal\":[{\"latency\":\"not a number\"}]}"));
+
+        assertThatThrownBy(iterator::next)
+                .isInstanceOf(HoverflyClientException.class)
+                .hasMessageContaining("Failed to read journal");
+    }
+
+    private static String entry(String path) {
+        return "{\"request\":{\"path\":\"" + path + "\",\"method\":\"GET\",\"destination\":\"hoverfly.io\",\"scheme\":\"http\","
+                + "\"query\":\"\",\"body\":\"\",\"headers\":{}},\"mode\":\"simulate\",\"latency\":1}";
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okio.Buffer;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonRequestBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldWriteObjectAsJson() throws Exception {
+        Simulation simulation = objectMapper.readValue(Resources.getResource("simulations/v2-simulation.json"), Simulation.class);
+        JsonRequestBody body = new JsonRequestBody(objectMapper, simulation);
+        Buffer buffer = new Buffer();
+
+        body.writeTo(buffer);
+
+        assertThat(buffer.readUtf8()).isEqualTo(objectMapper.writeValueAsString(simulation));
+    }
+
+    @Test
+    public void shouldNotCloseSink() throws Exception {
+        Buffer buffer = new Buffer();
+
+        new JsonRequestBody(objectMapper, "first").writeTo(buffer);
+        buffer.writeUtf8(",");
+
+        assertThat(buffer.readUtf8()).isEqualTo("\"first\",");
+    }
+
+    @Test
+    public void shouldHaveJsonContentTypeAndUnknownLength() throws Exception {
+        JsonRequestBody body = new JsonRequestBody(objectMapper, "data");
+
+        assertThat(body.contentType().toString()).isEqualTo("application/json");
+        assertThat(body.contentLength()).isEqualTo(-1);
+    }
+}
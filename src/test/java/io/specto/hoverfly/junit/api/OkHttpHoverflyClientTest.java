@@ -10,6 +10,7 @@ import io.specto.hoverfly.junit.core.SimulationSource;
 import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
 import io.specto.hoverfly.junit.core.model.FieldMatcher;
 import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
 import io.specto.hoverfly.junit.core.model.Request;
 import io.specto.hoverfly.junit.core.model.Simulation;
 import org.assertj.core.util.Lists;
@@ -20,13 +21,19 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.net.ServerSocket;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
 import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class OkHttpHoverflyClientTest {
 
@@ -109,6 +116,18 @@ public class OkHttpHoverflyClientTest {
         assertThat(simulation).isEqualTo(SimulationSource.empty().getSimulation());
     }
 
+    @Test
+    public void shouldBeAbleToExportSimulationToStream() throws Exception {
+        URL resource = Resources.getResource("simulations/v2-simulation.json");
+        Simulation simulation = objectMapper.readValue(resource, Simulation.class);
+        client.setSimulation(simulation);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        client.exportSimulation(outputStream);
+
+        assertThat(objectMapper.readValue(outputStream.toByteArray(), Simulation.class)).isEqualTo(client.getSimulation());
+    }
+
     @Test
     public void shouldBeAbleToDeleteAllSimulation() throws Exception {
         URL resource = Resources.getResource("simulations/v2-simulation.json");
@@ -158,6 +177,25 @@ public class OkHttpHoverflyClientTest {
         JSONAssert.assertEquals(expected, actual, JSONCompareMode.LENIENT);
     }
 
+    @Test
+    public void shouldBeAbleToStreamAndPageJournal() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        for (String url : Lists.newArrayList("http://hoverfly.io", "http://specto.io")) {
+            try {
+                restTemplate.getForEntity(url, String.class);
+            } catch (Exception ignored) {
+                // Do nothing just to populate journal
+            }
+        }
+
+        try (Stream<JournalEntry> entries = client.streamJournal()) {
+            assertThat(entries.map(entry -> entry.getRequest().getDestination())).containsExactly("hoverfly.io", "specto.io");
+        }
+        assertThat(client.getJournal(1, 1).getEntries())
+                .extracting(entry -> entry.getRequest().getDestination())
+                .containsExactly("specto.io");
+    }
+
     @Test
     public void shouldBeAbleToSearchJournal() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
@@ -184,6 +222,41 @@ public class OkHttpHoverflyClientTest {
         assertThat(journal.getEntries().iterator().next().getRequest().getDestination()).isEqualTo("hoverfly.io");
     }
 
+    @Test
+    public void shouldBeAbleToSetSimulationAsync() throws Exception {
+        URL resource = Resources.getResource("simulations/v2-simulation.json");
+        Simulation simulation = objectMapper.readValue(resource, Simulation.class);
+
+        client.setSimulationAsync(simulation).get(5, TimeUnit.SECONDS);
+
+        assertThat(client.getSimulationAsync().get(5, TimeUnit.SECONDS)).isEqualTo(simulation);
+    }
+
+    @Test
+    public void shouldBeAbleToSetDestinationAndGetConfigInfoAsync() throws Exception {
+        HoverflyInfoView configInfo = client.setDestinationAsync("www.test.com")
+                .thenCompose(ignored -> client.getConfigInfoAsync())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(configInfo.getDestination()).isEqualTo("www.test.com");
+    }
+
+    @Test
+    public void shouldBeAbleToDeleteJournalAsync() throws Exception {
+        client.deleteJournalAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(client.getJournalAsync().get(5, TimeUnit.SECONDS).getEntries()).isEmpty();
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyIfAsyncRequestFails() throws Exception {
+        OkHttpHoverflyClient unreachableClient = new OkHttpHoverflyClient("http", "localhost", findUnusedPort(), null);
+
+        assertThatThrownBy(() -> unreachableClient.deleteJournalAsync().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HoverflyClientException.class);
+    }
+
     @After
     public void tearDown() throws Exception {
         if (hoverfly != null) {
@@ -191,6 +264,12 @@ public class OkHttpHoverflyClientTest {
         }
     }
 
+    private static int findUnusedPort() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
     private void startDefaultHoverfly() {
         hoverfly = new Hoverfly(SIMULATE);
         hoverfly.start();
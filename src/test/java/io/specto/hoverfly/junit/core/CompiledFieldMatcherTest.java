@@ -0,0 +1,98 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.FieldMatcher;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledFieldMatcherTest {
+
+    @Test
+    public void shouldMatchEachKindOfFieldMatcher() throws Exception {
+        assertThat(compile(new FieldMatcher.Builder().exactMatch("/api")).matches("/api")).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().globMatch("/api/*/1")).matches("/api/bookings/1")).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().regexMatch("book.ngs")).matches("/api/bookings")).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().jsonMatch("{\"a\": 1, \"b\": [2]}")).matches("{\"b\":[2],\"a\":1}")).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().jsonPathMatch("$.things[1].name")).matches("{\"things\":[{},{\"name\":\"x\"}]}")).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().xmlMatch("<a>\n  <b>1</b>\n</a>")).matches("<a><b>1</b></a>")).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().xpathMatch("/a/b[text()='1']")).matches("<a><b>1</b></a>")).isTrue();
+    }
+
+    @Test
+    public void shouldNotMatchWhenAnyFieldMatcherFails() throws Exception {
+        assertThat(compile(new FieldMatcher.Builder().exactMatch("/api")).matches("/api/")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().globMatch("/api/*/1")).matches("/api/bookings/2")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().jsonMatch("{\"a\": 1}")).matches("not json")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().jsonPathMatch("$.things[2]")).matches("{\"things\":[{},{}]}")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().xpathMatch("/a/c")).matches("<a><b>1</b></a>")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().exactMatch("/api").regexMatch("^/b")).matches("/api")).isFalse();
+    }
+
+    @Test
+    public void shouldMatchAnyValueWithoutFieldMatcher() throws Exception {
+        assertThat(CompiledFieldMatcher.compile(null).matches("anything")).isTrue();
+        assertThat(CompiledFieldMatcher.compile(null).matches(null)).isTrue();
+    }
+
+    @Test
+    public void shouldNeverMatchInvalidMatcher() throws Exception {
+        assertThat(compile(new FieldMatcher.Builder().regexMatch("[unclosed")).matches("[unclosed")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().xpathMatch("/a[")).matches("<a/>")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().jsonPathMatch("$.a[?(@.b)]")).matches("{\"a\":[{\"b\":1}]}")).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().jsonPathMatch("$.a[?(@.b)]")).isCompiled()).isFalse();
+        assertThat(compile(new FieldMatcher.Builder().jsonPathMatch("$.a[0]")).isCompiled()).isTrue();
+    }
+
+    @Test
+    public void shouldOnlyIndexExactMatchers() throws Exception {
+        assertThat(compile(new FieldMatcher.Builder().exactMatch("/api")).isExactMatchOnly()).isTrue();
+        assertThat(compile(new FieldMatcher.Builder().exactMatch("/api").globMatch("/*")).isExactMatchOnly()).isFalse();
+        assertThat(CompiledFieldMatcher.compile(null).isExactMatchOnly()).isFalse();
+    }
+
+    @Test
+    public void shouldEvaluateJsonPathSelectors() throws Exception {
+        String json = "{\"store\":{\"book\":[{\"author\":\"A\"},{\"author\":\"B\",\"isbn\":\"1\"}]}}";
+
+        assertThat(matchesJsonPath("$.store.book[*].isbn", json)).isTrue();
+        assertThat(matchesJsonPath("$['store']['book'][-1]", json)).isTrue();
+        assertThat(matchesJsonPath("$..author", json)).isTrue();
+        assertThat(matchesJsonPath("$.store.*", json)).isTrue();
+        assertThat(matchesJsonPath("$..price", json)).isFalse();
+        assertThat(matchesJsonPath("$..a.b", "{\"a\":{\"a\":{\"b\":1}}}")).isTrue();
+        assertThat(matchesJsonPath("$.store.book[?(@.isbn)]", json)).isFalse();
+    }
+
+    @Test
+    public void shouldBeSafeToShareBetweenThreads() throws Exception {
+        CompiledFieldMatcher matcher = compile(new FieldMatcher.Builder().xpathMatch("/a/b[text()='1']").xmlMatch("<a><b>1</b></a>"));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = executorService.invokeAll(IntStream.range(0, 200)
+                    .mapToObj(i -> (Callable<Boolean>) () -> matcher.matches("<a> <b>1</b> </a>"))
+                    .collect(Collectors.toList()));
+
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static CompiledFieldMatcher compile(FieldMatcher.Builder builder) {
+        return CompiledFieldMatcher.compile(builder.build());
+    }
+
+    private static boolean matchesJsonPath(String expression, String json) {
+        return compile(new FieldMatcher.Builder().jsonPathMatch(expression)).matches(json);
+    }
+}
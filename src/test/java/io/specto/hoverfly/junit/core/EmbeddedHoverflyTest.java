@@ -0,0 +1,213 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClientException;
+import io.specto.hoverfly.junit.core.config.PortAllocator;
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.GlobalActions;
+import io.specto.hoverfly.junit.core.model.HoverflyData;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.created;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.equalsToJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmbeddedHoverflyTest {
+
+    private final EmbeddedHoverfly embeddedHoverfly = new EmbeddedHoverfly();
+    private int proxyPort;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        proxyPort = PortAllocator.allocate();
+        embeddedHoverfly.start(proxyPort);
+        client = new OkHttpClient.Builder()
+                .proxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress("localhost", proxyPort)))
+                .build();
+    }
+
+    @Test
+    public void shouldServeMatchingResponse() throws Exception {
+        embeddedHoverfly.setSimulation(dsl(service("www.my-test.com")
+                .get("/api/bookings/1")
+                .willReturn(success("{\"bookingId\":\"1\"}", "application/json"))).getSimulation());
+
+        try (Response response = get("http://www.my-test.com/api/bookings/1")) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Type")).isEqualTo("application/json");
+            assertThat(response.body().string()).isEqualTo("{\"bookingId\":\"1\"}");
+        }
+    }
+
+    @Test
+    public void shouldMatchRequestBody() throws Exception {
+        embeddedHoverfly.setSimulation(dsl(service("www.my-test.com")
+                .post("/api/bookings").body(equalsToJson("{\"flightId\": \"1\"}"))
+                .willReturn(created("http://localhost/api/bookings/1"))).getSimulation());
+
+        RequestBody body = RequestBody.create(MediaType.parse("application/json"), "{\"flightId\":\"1\"}");
+        try (Response response = client.newCall(new okhttp3.Request.Builder().url("http://www.my-test.com/api/bookings").post(body).build()).execute()) {
+            assertThat(response.code()).isEqualTo(201);
+            assertThat(response.header("Location")).isEqualTo("http://localhost/api/bookings/1");
+        }
+    }
+
+    @Test
+    public void shouldRespondWithBadGatewayWhenNoPairMatches() throws Exception {
+        try (Response response = get("http://www.my-test.com/api/bookings/1")) {
+            assertThat(response.code()).isEqualTo(502);
+            assertThat(response.body().string()).contains("Could not find a match for request");
+        }
+    }
+
+    @Test
+    public void shouldRespondWithBadGatewayWhenResponseCannotBeWritten() throws Exception {
+        io.specto.hoverfly.junit.core.model.Response invalidBody = new io.specto.hoverfly.junit.core.model.Response(
+                200, "not base64!", true, false, Collections.emptyMap());
+        embeddedHoverfly.setSimulation(new Simulation(new HoverflyData(Collections.singleton(
+                new RequestResponsePair(service("www.my-test.com").get("/api/bookings/1").build(), invalidBody)), null), null));
+
+        try (Response response = get("http://www.my-test.com/api/bookings/1")) {
+            assertThat(response.code()).isEqualTo(502);
+        }
+    }
+
+    @Test
+    public void shouldDelayResponse() throws Exception {
+        embeddedHoverfly.setSimulation(dsl(service("www.my-test.com")
+                .get("/api/bookings/1")
+                .willReturn(success().withDelay(200, TimeUnit.MILLISECONDS))).getSimulation());
+
+        long started = System.nanoTime();
+        get("http://www.my-test.com/api/bookings/1").close();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    public void shouldSampleDelayFromDistribution() throws Exception {
+        embeddedHoverfly.setSimulation(dsl(service("www.my-test.com")
+                .get("/api/bookings/1")
+                .willReturn(success().withDelay(DelayDistribution.uniform(150, 250)))).getSimulation());
+
+        long started = System.nanoTime();
+        get("http://www.my-test.com/api/bookings/1").close();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    public void shouldRecordRequestsInJournal() throws Exception {
+        embeddedHoverfly.setSimulation(dsl(service("www.my-test.com")
+                .get("/api/bookings/1").willReturn(success())
+                .get("/api/bookings/2").willReturn(success())).getSimulation());
+
+        get("http://www.my-test.com/api/bookings/1").close();
+        get("http://www.my-test.com/api/bookings/2?page=1").close();
+
+        List<JournalEntry> entries = embeddedHoverfly.getJournal().getEntries();
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(1).getRequest().getPath()).isEqualTo("/api/bookings/2");
+        assertThat(entries.get(1).getRequest().getQuery()).isEqualTo("page=1");
+        assertThat(entries.get(1).getRequest().getDestination()).isEqualTo("www.my-test.com");
+        assertThat(entries.get(1).getResponse().getStatus()).isEqualTo(502);
+        assertThat(embeddedHoverfly.searchJournal(service("www.my-test.com").get("/api/bookings/1").build()).getEntries()).hasSize(1);
+
+        embeddedHoverfly.deleteJournal();
+
+        assertThat(embeddedHoverfly.getJournal().getEntries()).isEmpty();
+    }
+
+    @Test
+    public void shouldStreamAndPageJournal() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            get("http://www.my-test.com/api/bookings/" + i).close();
+        }
+
+        try (Stream<JournalEntry> entries = embeddedHoverfly.streamJournal()) {
+            assertThat(entries.map(entry -> entry.getRequest().getPath()))
+                    .containsExactly("/api/bookings/0", "/api/bookings/1", "/api/bookings/2", "/api/bookings/3", "/api/bookings/4");
+        }
+        assertThat(embeddedHoverfly.getJournal(1, 2).getEntries())
+                .extracting(entry -> entry.getRequest().getPath())
+                .containsExactly("/api/bookings/1", "/api/bookings/2");
+        assertThat(embeddedHoverfly.getJournal(4, 10).getEntries()).hasSize(1);
+        assertThat(embeddedHoverfly.getJournal(5, 10).getEntries()).isEmpty();
+    }
+
+    @Test
+    public void shouldOnlyKeepMostRecentRequestsInJournal() throws Exception {
+        EmbeddedHoverfly smallJournalHoverfly = new EmbeddedHoverfly(3);
+        int port = PortAllocator.allocate();
+        smallJournalHoverfly.start(port);
+        client = new OkHttpClient.Builder().proxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress("localhost", port))).build();
+        try {
+            for (int i = 0; i < 5; i++) {
+                get("http://www.my-test.com/api/bookings/" + i).close();
+            }
+
+            assertThat(smallJournalHoverfly.getJournal().getEntries())
+                    .extracting(entry -> entry.getRequest().getPath())
+                    .containsExactly("/api/bookings/2", "/api/bookings/3", "/api/bookings/4");
+
+            smallJournalHoverfly.deleteJournal();
+            get("http://www.my-test.com/api/bookings/5").close();
+
+            assertThat(smallJournalHoverfly.getJournal().getEntries()).hasSize(1);
+        } finally {
+            smallJournalHoverfly.stop();
+            PortAllocator.release(port);
+        }
+    }
+
+    @Test
+    public void shouldRejectSimulationWithInvalidDelayUrlPattern() throws Exception {
+        Simulation simulation = new Simulation(new HoverflyData(Collections.emptySet(),
+                new GlobalActions(Collections.singletonList(new DelaySettings("www.my-test.com/api/(", 100, "GET")))), null);
+
+        assertThatThrownBy(() -> embeddedHoverfly.setSimulation(simulation))
+                .isInstanceOf(HoverflyClientException.class)
+                .hasMessageContaining("Invalid delay url pattern");
+    }
+
+    @Test
+    public void shouldOnlySupportSimulateMode() throws Exception {
+        assertThat(embeddedHoverfly.getHealth()).isTrue();
+        assertThat(embeddedHoverfly.getConfigInfo().getMode()).isEqualTo("simulate");
+        assertThatThrownBy(() -> embeddedHoverfly.setMode(CAPTURE))
+                .isInstanceOf(HoverflyClientException.class)
+                .hasMessageContaining("only supports simulate mode");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        embeddedHoverfly.stop();
+        PortAllocator.release(proxyPort);
+    }
+
+    private Response get(String url) throws Exception {
+        return client.newCall(new okhttp3.Request.Builder().url(url).build()).execute();
+    }
+}
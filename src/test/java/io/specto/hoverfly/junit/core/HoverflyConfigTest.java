@@ -5,6 +5,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
 
+import java.time.Duration;
+
 import static io.specto.hoverfly.junit.core.HoverflyConfig.configs;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -130,4 +132,57 @@ public class HoverflyConfigTest {
         assertThat(configs.getCaptureHeaders()).containsOnly("*");
     }
 
+    @Test
+    public void shouldSetReuseProcess() throws Exception {
+        assertThat(configs().build().isReuseProcess()).isFalse();
+        assertThat(configs().reuseProcess().build().isReuseProcess()).isTrue();
+        assertThat(configs().remote().build().isReuseProcess()).isFalse();
+    }
+
+    @Test
+    public void shouldSetHealthCheckTimeout() throws Exception {
+        assertThat(configs().build().getHealthCheckTimeout()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(configs().healthCheckTimeout(Duration.ofSeconds(30)).build().getHealthCheckTimeout()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(configs().remote().healthCheckTimeout(Duration.ofSeconds(1)).build().getHealthCheckTimeout()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void shouldSetStreamingExport() throws Exception {
+        assertThat(configs().build().isStreamingExport()).isFalse();
+        assertThat(configs().streamingExport().build().isStreamingExport()).isTrue();
+        assertThat(configs().remote().streamingExport().build().isStreamingExport()).isTrue();
+    }
+
+    @Test
+    public void shouldSetCaptureDelays() throws Exception {
+        assertThat(configs().build().isCaptureDelays()).isFalse();
+        assertThat(configs().captureDelays().build().isCaptureDelays()).isTrue();
+        assertThat(configs().remote().captureDelays().build().isCaptureDelays()).isTrue();
+    }
+
+    @Test
+    public void shouldSetProxySelector() throws Exception {
+        assertThat(configs().build().isProxySelector()).isFalse();
+        assertThat(configs().proxySelector().build().isProxySelector()).isTrue();
+        assertThat(configs().proxySelector().build().getProxiedHosts()).isNull();
+
+        HoverflyConfiguration configs = configs().remote().proxySelector("*.flight.com", "localhost:8080").build();
+        assertThat(configs.isProxySelector()).isTrue();
+        assertThat(configs.getProxiedHosts()).containsExactly("*.flight.com", "localhost:8080");
+    }
+
+    @Test
+    public void shouldSetScopedSslContext() throws Exception {
+        assertThat(configs().build().isScopedSslContext()).isFalse();
+        assertThat(configs().scopedSslContext().build().isScopedSslContext()).isTrue();
+        assertThat(configs().remote().scopedSslContext().build().isScopedSslContext()).isTrue();
+    }
+
+    @Test
+    public void shouldSetLocalVerification() throws Exception {
+        assertThat(configs().build().isLocalVerification()).isFalse();
+        assertThat(configs().localVerification().build().isLocalVerification()).isTrue();
+        assertThat(configs().remote().localVerification().build().isLocalVerification()).isTrue();
+    }
+
 }
\ No newline at end of file
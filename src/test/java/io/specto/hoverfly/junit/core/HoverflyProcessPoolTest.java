@@ -0,0 +1,128 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.zeroturnaround.exec.StartedProcess;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class HoverflyProcessPoolTest {
+
+    private static final HoverflyProcessPool.Key DEFAULT_KEY = new HoverflyProcessPool.Key(0, 0, null, null);
+
+    private HoverflyProcessPool pool;
+    private StartedProcess startedProcess;
+    private Process process;
+    private TempFileManager tempFileManager;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = new HoverflyProcessPool();
+        process = mock(Process.class);
+        when(process.isAlive()).thenReturn(true);
+        when(process.waitFor(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        startedProcess = mock(StartedProcess.class);
+        when(startedProcess.getProcess()).thenReturn(process);
+        tempFileManager = mock(TempFileManager.class);
+    }
+
+    @Test
+    public void shouldNotLeaseProcessWhenPoolIsEmpty() throws Exception {
+        assertThat(pool.lease(DEFAULT_KEY)).isEmpty();
+    }
+
+    @Test
+    public void shouldLeaseReleasedProcessWithSameKey() throws Exception {
+        HoverflyProcessPool.PooledProcess pooledProcess = pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888);
+
+        pool.release(pooledProcess);
+        Optional<HoverflyProcessPool.PooledProcess> leased = pool.lease(new HoverflyProcessPool.Key(0, 0, null, null));
+
+        assertThat(leased).contains(pooledProcess);
+        assertThat(leased.get().getProxyPort()).isEqualTo(8500);
+        assertThat(leased.get().getAdminPort()).isEqualTo(8888);
+        assertThat(pool.lease(DEFAULT_KEY)).isEmpty();
+        verify(process, never()).destroy();
+    }
+
+    @Test
+    public void shouldNotLeaseProcessWithDifferentKey() throws Exception {
+        pool.release(pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888));
+
+        assertThat(pool.lease(new HoverflyProcessPool.Key(8500, 0, null, null))).isEmpty();
+        assertThat(pool.lease(new HoverflyProcessPool.Key(0, 0, "ssl/ca.crt", "ssl/ca.key"))).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardDeadProcessOnLease() throws Exception {
+        pool.release(pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888));
+        when(process.isAlive()).thenReturn(false);
+
+        assertThat(pool.lease(DEFAULT_KEY)).isEmpty();
+        ProcessReaper.getInstance().awaitPending();
+        verify(tempFileManager).purge();
+    }
+
+    @Test
+    public void shouldNotWaitForDiscardedProcessToExitBeforeLeasingOthers() throws Exception {
+        CountDownLatch processExited = new CountDownLatch(1);
+        when(process.waitFor(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> processExited.await(5, TimeUnit.SECONDS));
+        HoverflyProcessPool.PooledProcess discarded = pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888);
+        HoverflyProcessPool.PooledProcess other = pool.register(DEFAULT_KEY, mockStartedProcess(), mock(TempFileManager.class), 8501, 8889);
+        pool.release(other);
+
+        pool.discard(discarded);
+
+        assertThat(pool.lease(DEFAULT_KEY)).contains(other);
+        verify(process).destroy();
+        verify(tempFileManager, never()).purge();
+
+        processExited.countDown();
+        ProcessReaper.getInstance().awaitPending();
+        verify(tempFileManager).purge();
+    }
+
+    @Test
+    public void shouldDestroyAllProcessesOnShutdown() throws Exception {
+        pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888);
+
+        pool.shutdown();
+
+        verify(process).destroy();
+        verify(tempFileManager).purge();
+    }
+
+    @Test
+    public void shouldDestroyProcessReleasedAfterShutdown() throws Exception {
+        HoverflyProcessPool.PooledProcess pooledProcess = pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888);
+        pool.shutdown();
+
+        pool.release(pooledProcess);
+
+        assertThat(pool.lease(DEFAULT_KEY)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotRegisterProcessAfterShutdown() throws Exception {
+        pool.shutdown();
+
+        assertThatThrownBy(() -> pool.register(DEFAULT_KEY, startedProcess, tempFileManager, 8500, 8888))
+                .isInstanceOf(IllegalStateException.class);
+        verify(process).destroy();
+    }
+
+    private static StartedProcess mockStartedProcess() {
+        Process process = mock(Process.class);
+        when(process.isAlive()).thenReturn(true);
+        StartedProcess startedProcess = mock(StartedProcess.class);
+        when(startedProcess.getProcess()).thenReturn(process);
+        return startedProcess;
+    }
+}
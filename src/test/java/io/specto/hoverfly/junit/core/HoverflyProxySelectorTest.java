@@ -0,0 +1,148 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matches;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HoverflyProxySelectorTest {
+
+    private static final Proxy HOVERFLY_PROXY = new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved("localhost", 8500));
+    private static final Proxy CORPORATE_PROXY = new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved("proxy.corp", 3128));
+
+    private final Simulation simulation = dsl(
+            service("www.my-test.com").get("/api/bookings").willReturn(success()),
+            service(matches("*.flight.com")).get("/api/flights").willReturn(success())
+    ).getSimulation();
+
+    private ProxySelector originalProxySelector;
+
+    @Before
+    public void setUp() {
+        originalProxySelector = ProxySelector.getDefault();
+        ProxySelector.setDefault(new FixedProxySelector(CORPORATE_PROXY));
+    }
+
+    @After
+    public void tearDown() {
+        ProxySelector.setDefault(originalProxySelector);
+    }
+
+    @Test
+    public void shouldRouteOnlyTheDestinationsOfTheSimulation() {
+        HoverflyProxySelector selector = startedSelector(false, null, null);
+
+        selector.routeDestinations(simulation);
+
+        assertThat(selector.select(URI.create("http://www.my-test.com/api/bookings"))).containsExactly(HOVERFLY_PROXY);
+        assertThat(selector.select(URI.create("https://api.flight.com/api/flights"))).containsExactly(HOVERFLY_PROXY);
+        assertThat(selector.select(URI.create("https://www.other-service.com/api"))).containsExactly(CORPORATE_PROXY);
+    }
+
+    @Test
+    public void shouldNotRouteAnythingBeforeHoverflyIsStarted() {
+        HoverflyProxySelector selector = new HoverflyProxySelector(false, null, null);
+
+        selector.routeDestinations(simulation);
+
+        assertThat(selector.select(URI.create("http://www.my-test.com/api/bookings"))).containsExactly(CORPORATE_PROXY);
+    }
+
+    @Test
+    public void shouldRouteEveryRequestWhenCapturing() {
+        HoverflyProxySelector selector = startedSelector(false, null, null);
+
+        selector.setCapturing(true);
+
+        assertThat(selector.select(URI.create("https://www.other-service.com/api"))).containsExactly(HOVERFLY_PROXY);
+        assertThat(selector.select(URI.create("http://localhost:8080/api"))).containsExactly(CORPORATE_PROXY);
+        assertThat(selector.select(URI.create("socket://www.other-service.com:443"))).containsExactly(CORPORATE_PROXY);
+    }
+
+    @Test
+    public void shouldRouteLocalHostOnlyIfConfigured() {
+        Simulation localSimulation = dsl(service("localhost:8080").get("/api").willReturn(success())).getSimulation();
+        HoverflyProxySelector selector = startedSelector(false, null, null);
+        HoverflyProxySelector localHostSelector = startedSelector(true, null, null);
+
+        selector.routeDestinations(localSimulation);
+        localHostSelector.routeDestinations(localSimulation);
+
+        assertThat(selector.isRouted(URI.create("http://localhost:8080/api"))).isFalse();
+        assertThat(localHostSelector.isRouted(URI.create("http://localhost:8080/api"))).isTrue();
+        assertThat(localHostSelector.isRouted(URI.create("http://localhost:8081/api"))).isFalse();
+    }
+
+    @Test
+    public void shouldNeverRouteRequestsToHoverflyItself() {
+        HoverflyProxySelector selector = startedSelector(true, "hoverfly.cloud", null);
+
+        selector.setCapturing(true);
+
+        assertThat(selector.isRouted(URI.create("http://localhost:8888/api/v2/simulation"))).isFalse();
+        assertThat(selector.isRouted(URI.create("https://hoverfly.cloud/api"))).isFalse();
+        assertThat(selector.isRouted(URI.create("http://localhost:8080/api"))).isTrue();
+    }
+
+    @Test
+    public void shouldRouteConfiguredHostsWhateverTheSimulationOrMode() {
+        HoverflyProxySelector selector = startedSelector(false, null, Arrays.asList("*.my-service.com", "www.other-service.com"));
+
+        selector.routeDestinations(simulation);
+        selector.setCapturing(true);
+
+        assertThat(selector.isRouted(URI.create("https://api.my-service.com/api"))).isTrue();
+        assertThat(selector.isRouted(URI.create("http://www.other-service.com/api"))).isTrue();
+        assertThat(selector.isRouted(URI.create("http://www.my-test.com/api/bookings"))).isFalse();
+    }
+
+    @Test
+    public void shouldStopRoutingDestinationsWhenTheSimulationIsCleared() {
+        HoverflyProxySelector selector = startedSelector(false, null, null);
+        selector.routeDestinations(simulation);
+
+        selector.clearDestinations();
+
+        assertThat(selector.isRouted(URI.create("http://www.my-test.com/api/bookings"))).isFalse();
+    }
+
+    private static HoverflyProxySelector startedSelector(boolean proxyLocalHost, String excludedHost, List<String> hosts) {
+        HoverflyProxySelector selector = new HoverflyProxySelector(proxyLocalHost, excludedHost, hosts);
+        selector.setProxy("localhost", 8500, 8888);
+        return selector;
+    }
+
+    static class FixedProxySelector extends ProxySelector {
+
+        private final Proxy proxy;
+
+        FixedProxySelector(Proxy proxy) {
+            this.proxy = proxy;
+        }
+
+        @Override
+        public List<Proxy> select(URI uri) {
+            return Collections.singletonList(proxy);
+        }
+
+        @Override
+        public void connectFailed(URI uri, SocketAddress sa, IOException ioe) {
+        }
+    }
+}
@@ -8,13 +8,25 @@ import io.specto.hoverfly.junit.api.HoverflyClient;
 import io.specto.hoverfly.junit.api.HoverflyClientException;
 import io.specto.hoverfly.junit.api.model.ModeArguments;
 import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
+import io.specto.hoverfly.junit.core.config.PortAllocator;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
 import io.specto.hoverfly.junit.core.model.Simulation;
+import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
+import io.specto.hoverfly.junit.stats.JournalStats;
+import io.specto.hoverfly.junit.verification.HoverflyVerifications;
+import io.specto.hoverfly.junit.verification.VerificationCriteria;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
 import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.powermock.reflect.Whitebox;
@@ -22,13 +34,29 @@ import org.slf4j.LoggerFactory;
 import org.zeroturnaround.exec.StartedProcess;
 
 import javax.net.ssl.SSLContext;
+import java.io.OutputStream;
+import java.net.ProxySelector;
+import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static io.specto.hoverfly.junit.core.HoverflyConfig.configs;
 import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
 import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
 import static io.specto.hoverfly.junit.core.SimulationSource.classpath;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -39,6 +67,9 @@ public class HoverflyTest {
 
     private static final int EXPECTED_PROXY_PORT = 8890;
     private Hoverfly hoverfly;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
     private ObjectMapper mapper = new ObjectMapper();
 
     @Test
@@ -59,6 +90,7 @@ public class HoverflyTest {
 
         // When
         hoverfly.close();
+        hoverfly.awaitTeardown();
 
         // Then
         verify(tempFileManager).purge();
@@ -87,6 +119,143 @@ public class HoverflyTest {
                 .hasMessageContaining("cannot be null");
     }
 
+    @Test
+    public void shouldExportSimulationInSmileFormat() throws Exception {
+        startDefaultHoverfly();
+        hoverfly.importSimulation(classpath("simulations/v2-simulation.json"));
+        Path exportPath = temporaryFolder.getRoot().toPath().resolve("simulation.smile.gz");
+
+        hoverfly.exportSimulation(exportPath, SimulationFormat.SMILE_GZIP);
+
+        assertThat(SimulationSource.file(exportPath).getSimulation()).isEqualTo(hoverfly.getSimulation());
+    }
+
+    @Test
+    public void shouldStreamSimulationToDiskWhenExporting() throws Exception {
+        hoverfly = new Hoverfly(configs().streamingExport(), SIMULATE);
+        hoverfly.start();
+        hoverfly.importSimulation(classpath("simulations/v2-simulation.json"));
+        Path exportPath = temporaryFolder.getRoot().toPath().resolve("exported/simulation.json");
+
+        hoverfly.exportSimulation(exportPath);
+
+        assertThat(mapper.readValue(exportPath.toFile(), Simulation.class)).isEqualTo(hoverfly.getSimulation());
+        assertThat(Files.readAllLines(exportPath).size()).isGreaterThan(1);
+        assertThat(exportPath.getParent().toFile().list()).containsExactly("simulation.json");
+    }
+
+    @Test
+    public void shouldExportDelaysDerivedFromCapturedLatency() throws Exception {
+        hoverfly = new Hoverfly(configs().captureDelays(), CAPTURE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        Simulation simulation = classpath("simulations/v2-simulation.json").getSimulation();
+        when(hoverflyClient.getSimulation()).thenReturn(simulation);
+        when(hoverflyClient.streamJournal()).thenReturn(capturedJournal());
+        Path exportPath = temporaryFolder.getRoot().toPath().resolve("simulation.json");
+
+        hoverfly.exportSimulation(exportPath);
+
+        List<DelaySettings> delays = mapper.readValue(exportPath.toFile(), Simulation.class).getHoverflyData().getGlobalActions().getDelays();
+        assertThat(delays).hasSize(simulation.getHoverflyData().getGlobalActions().getDelays().size() + 1);
+        assertThat(delays.get(delays.size() - 1).getUrlPattern()).isEqualTo("^www\\.my-test\\.com/api/bookings$");
+        assertThat(delays.get(delays.size() - 1).getDistribution().getValues()).containsExactly(100, 200);
+    }
+
+    @Test
+    public void shouldAddDelaysDerivedFromCapturedLatencyWhenStreamingExport() throws Exception {
+        hoverfly = new Hoverfly(configs().captureDelays().streamingExport(), CAPTURE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        Simulation simulation = classpath("simulations/v2-simulation.json").getSimulation();
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(mapper.writeValueAsBytes(simulation));
+            return null;
+        }).when(hoverflyClient).exportSimulation(any());
+        when(hoverflyClient.streamJournal()).thenReturn(capturedJournal());
+        Path exportPath = temporaryFolder.getRoot().toPath().resolve("simulation.json");
+
+        hoverfly.exportSimulation(exportPath);
+
+        Simulation exported = mapper.readValue(exportPath.toFile(), Simulation.class);
+        List<DelaySettings> delays = exported.getHoverflyData().getGlobalActions().getDelays();
+        assertThat(delays.subList(0, delays.size() - 1)).isEqualTo(simulation.getHoverflyData().getGlobalActions().getDelays());
+        assertThat(delays.get(delays.size() - 1).getHttpMethod()).isEqualTo("GET");
+        assertThat(exported.getHoverflyData().getPairs()).isEqualTo(simulation.getHoverflyData().getPairs());
+    }
+
+    @Test
+    public void shouldServeSimulationFromEmbeddedHoverfly() throws Exception {
+        hoverfly = new Hoverfly(configs().embedded(), SIMULATE);
+        hoverfly.start();
+        hoverfly.importSimulation(classpath("test-service.json"));
+
+        HttpClient client = HttpClientBuilder.create().useSystemProperties().build();
+        HttpResponse response = client.execute(new HttpGet("http://www.my-test.com/api/bookings/1"));
+
+        assertThat(response.getStatusLine().getStatusCode()).isEqualTo(OK.value());
+        assertThat(EntityUtils.toString(response.getEntity())).contains("\"bookingId\":\"1\"");
+        assertThat(hoverfly.getMode()).isEqualTo(SIMULATE);
+        hoverfly.verify(service("www.my-test.com").get("/api/bookings/1"));
+    }
+
+    @Test
+    public void shouldImportSimulationWhenStarting() throws Exception {
+        hoverfly = new Hoverfly(configs().embedded(), SIMULATE);
+        hoverfly.start(classpath("test-service.json"));
+
+        HttpClient client = HttpClientBuilder.create().useSystemProperties().build();
+        HttpResponse response = client.execute(new HttpGet("http://www.my-test.com/api/bookings/1"));
+
+        assertThat(EntityUtils.toString(response.getEntity())).contains("\"bookingId\":\"1\"");
+        assertThat(hoverfly.getProxySelector().isRouted(URI.create("http://www.my-test.com/api/bookings/1"))).isTrue();
+    }
+
+    @Test
+    public void shouldThrowExceptionFromSimulationSourceWhenStarting() throws Exception {
+        hoverfly = new Hoverfly(configs().embedded(), SIMULATE);
+
+        assertThatThrownBy(() -> hoverfly.start(() -> {
+            throw new IllegalArgumentException("Simulation is broken");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Simulation is broken");
+    }
+
+    @Test
+    public void shouldRouteOnlySimulatedDestinationsOfEachInstanceWithProxySelector() throws Exception {
+        final ProxySelector originalProxySelector = ProxySelector.getDefault();
+        final String originalProxyHost = System.getProperty("http.proxyHost");
+        hoverfly = new Hoverfly(configs().embedded().proxySelector(), SIMULATE);
+        hoverfly.start();
+        hoverfly.importSimulation(classpath("test-service.json"));
+
+        try (Hoverfly otherHoverfly = new Hoverfly(configs().embedded().proxySelector(), SIMULATE)) {
+            otherHoverfly.start();
+            otherHoverfly.importSimulation(SimulationSource.dsl(
+                    service("www.other-service.com").get("/api/flights").willReturn(success("flights", "text/plain"))));
+
+            HttpClient client = HttpClientBuilder.create().useSystemProperties().build();
+            HttpResponse bookings = client.execute(new HttpGet("http://www.my-test.com/api/bookings/1"));
+            HttpResponse flights = client.execute(new HttpGet("http://www.other-service.com/api/flights"));
+
+            assertThat(System.getProperty("http.proxyHost")).isEqualTo(originalProxyHost);
+            assertThat(EntityUtils.toString(bookings.getEntity())).contains("\"bookingId\":\"1\"");
+            assertThat(EntityUtils.toString(flights.getEntity())).isEqualTo("flights");
+            assertThat(hoverfly.getProxySelector().isRouted(URI.create("http://www.other-service.com/api/flights"))).isFalse();
+        }
+        hoverfly.close();
+
+        assertThat(ProxySelector.getDefault()).isSameAs(originalProxySelector);
+    }
+
+    @Test
+    public void shouldNotStartEmbeddedHoverflyInCaptureMode() throws Exception {
+        hoverfly = new Hoverfly(configs().embedded(), CAPTURE);
+
+        assertThatThrownBy(hoverfly::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("only supports simulate mode");
+    }
+
     @Test
     public void shouldThrowExceptionWhenProxyPortIsAlreadyInUse() throws Exception {
         // Given
@@ -169,14 +338,99 @@ public class HoverflyTest {
 
         // When
         hoverfly.close();
+        hoverfly.awaitTeardown();
 
         // Then
         InOrder inOrder = inOrder(mockProcess, tempFileManager);
         inOrder.verify(mockProcess).destroy();
-        inOrder.verify(mockProcess).waitFor();
+        inOrder.verify(mockProcess).waitFor(5, TimeUnit.SECONDS);
         inOrder.verify(tempFileManager).purge();
     }
 
+    @Test
+    public void shouldOnlyCleanUpOnceWhenClosedTwice() throws Exception {
+        // Given
+        hoverfly = new Hoverfly(SIMULATE);
+
+        TempFileManager tempFileManager = spy(TempFileManager.class);
+        Whitebox.setInternalState(hoverfly, "tempFileManager", tempFileManager);
+        StartedProcess mockStartedProcess = mock(StartedProcess.class);
+        Whitebox.setInternalState(hoverfly, "startedProcess", mockStartedProcess);
+        Process mockProcess = mock(Process.class);
+        when(mockStartedProcess.getProcess()).thenReturn(mockProcess);
+
+        // When
+        hoverfly.close();
+        hoverfly.close();
+        hoverfly.awaitTeardown();
+
+        // Then
+        verify(mockProcess).destroy();
+        verify(tempFileManager).purge();
+    }
+
+    @Test
+    public void shouldNotCleanUpPooledProcessWhenClosedAgain() throws Exception {
+        // Given
+        hoverfly = new Hoverfly(configs().reuseProcess(), SIMULATE);
+        createMockHoverflyClient(hoverfly);
+
+        StartedProcess mockStartedProcess = mock(StartedProcess.class);
+        Process mockProcess = mock(Process.class);
+        when(mockStartedProcess.getProcess()).thenReturn(mockProcess);
+        when(mockProcess.isAlive()).thenReturn(true);
+        TempFileManager pooledTempFileManager = mock(TempFileManager.class);
+        HoverflyProcessPool.PooledProcess pooledProcess = HoverflyProcessPool.getInstance().register(
+                new HoverflyProcessPool.Key(-1, -1, null, null), mockStartedProcess, pooledTempFileManager, 8500, 8888);
+        Whitebox.setInternalState(hoverfly, "pooledProcess", pooledProcess);
+        Whitebox.setInternalState(hoverfly, "startedProcess", mockStartedProcess);
+        Whitebox.setInternalState(hoverfly, "tempFileManager", pooledTempFileManager);
+        Whitebox.setInternalState(hoverfly, "poolOwnsPorts", true);
+
+        try {
+            // When
+            hoverfly.close();
+            hoverfly.close();
+            hoverfly.awaitTeardown();
+
+            // Then
+            verify(mockProcess, never()).destroy();
+            verify(pooledTempFileManager, never()).purge();
+        } finally {
+            HoverflyProcessPool.getInstance().discard(pooledProcess);
+        }
+    }
+
+    @Test
+    public void shouldNotWaitForHoverflyProcessToTerminateWhenClosing() throws Exception {
+        // Given
+        hoverfly = new Hoverfly(SIMULATE);
+
+        TempFileManager tempFileManager = spy(TempFileManager.class);
+        Whitebox.setInternalState(hoverfly, "tempFileManager", tempFileManager);
+        ProxyConfigurer proxyConfigurer = mock(ProxyConfigurer.class);
+        Whitebox.setInternalState(hoverfly, "proxyConfigurer", proxyConfigurer);
+
+        StartedProcess mockStartedProcess = mock(StartedProcess.class);
+        Whitebox.setInternalState(hoverfly, "startedProcess", mockStartedProcess);
+        Process mockProcess = mock(Process.class);
+        when(mockStartedProcess.getProcess()).thenReturn(mockProcess);
+        CountDownLatch processExited = new CountDownLatch(1);
+        when(mockProcess.waitFor(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> processExited.await(5, TimeUnit.SECONDS));
+
+        // When
+        hoverfly.close();
+
+        // Then
+        verify(mockProcess).destroy();
+        verify(proxyConfigurer).restoreProxySystemProperties();
+        verify(tempFileManager, never()).purge();
+
+        processExited.countDown();
+        hoverfly.awaitTeardown();
+        verify(tempFileManager).purge();
+    }
+
 
     @Test
     public void shouldSetTrustStoreWhenStartingHoverfly() throws Exception {
@@ -192,6 +446,21 @@ public class HoverflyTest {
         verify(sslConfigurer).setDefaultSslContext();
     }
 
+    @Test
+    public void shouldNotSetJVMTrustStoreWithScopedSslContext() throws Exception {
+        // Given
+        hoverfly = new Hoverfly(configs().scopedSslContext(), SIMULATE);
+        SslConfigurer sslConfigurer = mock(SslConfigurer.class);
+        Whitebox.setInternalState(hoverfly, "sslConfigurer", sslConfigurer);
+
+        // When
+        hoverfly.start();
+
+        // Then
+        verify(sslConfigurer).initSslContext();
+        verify(sslConfigurer, never()).setDefaultSslContext();
+    }
+
     @Test
     public void shouldNotSetJVMTrustStoreIfSslCertificatePathExists() throws Exception {
         // Given
@@ -282,6 +551,37 @@ public class HoverflyTest {
         assertThat(hoverfly.getHoverflyConfig().getAdminPort()).isNotZero();
     }
 
+    @Test
+    public void shouldOnlyLeaseDynamicPortsOnStart() throws Exception {
+
+        hoverfly = new Hoverfly(SIMULATE);
+        int proxyPort = hoverfly.getHoverflyConfig().getProxyPort();
+        int adminPort = hoverfly.getHoverflyConfig().getAdminPort();
+
+        assertThat(portLease(proxyPort)).doesNotExist();
+        assertThat(portLease(adminPort)).doesNotExist();
+
+        hoverfly.start();
+
+        assertThat(hoverfly.getHoverflyConfig().getProxyPort()).isEqualTo(proxyPort);
+        assertThat(hoverfly.getHoverflyConfig().getAdminPort()).isEqualTo(adminPort);
+        assertThat(portLease(proxyPort)).exists();
+        assertThat(portLease(adminPort)).exists();
+    }
+
+    @Test
+    public void shouldReleaseDynamicPortsWhenStartFails() throws Exception {
+        hoverfly = new Hoverfly(configs().embedded(), SIMULATE);
+
+        assertThatThrownBy(() -> hoverfly.start(() -> {
+            throw new IllegalArgumentException("Simulation is broken");
+        })).isInstanceOf(IllegalArgumentException.class);
+        hoverfly.awaitTeardown();
+
+        assertThat(portLease(hoverfly.getHoverflyConfig().getProxyPort())).doesNotExist();
+        assertThat(PortAllocator.isAvailable(hoverfly.getHoverflyConfig().getProxyPort())).isTrue();
+    }
+
 
     @Test
     public void shouldSetSystemPropertiesForLocalHoverflyInstance() throws Exception {
@@ -315,7 +615,8 @@ public class HoverflyTest {
             startedProcess = Whitebox.getInternalState(hoverfly, "startedProcess");
         } finally {
 
-            assertThat(startedProcess.getProcess().isAlive()).isFalse();
+            // The process is signalled on close, and exits in the background
+            assertThat(startedProcess.getProcess().waitFor(5, TimeUnit.SECONDS)).isTrue();
         }
 
     }
@@ -349,6 +650,107 @@ public class HoverflyTest {
         verify(hoverflyClient, never()).setMode(eq(HoverflyMode.SIMULATE), any());
     }
 
+    @Test
+    public void shouldSkipImportingUnchangedSimulation() throws Exception {
+        hoverfly = new Hoverfly(SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.importSimulation(classpath("test-service.json"));
+        hoverfly.importSimulation(SimulationSource.simulation(mapper.readValue(Resources.getResource("test-service.json"), Simulation.class)));
+
+        verify(hoverflyClient, times(1)).setSimulation(any());
+    }
+
+    @Test
+    public void shouldImportChangedSimulation() throws Exception {
+        hoverfly = new Hoverfly(SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.importSimulation(classpath("test-service.json"));
+        hoverfly.importSimulation(classpath("simulations/v2-simulation.json"));
+        hoverfly.importSimulation(classpath("test-service.json"));
+
+        verify(hoverflyClient, times(3)).setSimulation(any());
+    }
+
+    @Test
+    public void shouldImportUnchangedSimulationAgainAfterReset() throws Exception {
+        hoverfly = new Hoverfly(SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.importSimulation(classpath("test-service.json"));
+        hoverfly.reset();
+        hoverfly.importSimulation(classpath("test-service.json"));
+
+        verify(hoverflyClient, times(2)).setSimulation(any());
+    }
+
+    @Test
+    public void shouldNotSkipImportingUnchangedSimulationInCaptureMode() throws Exception {
+        hoverfly = new Hoverfly(CAPTURE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.importSimulation(classpath("test-service.json"));
+        hoverfly.importSimulation(classpath("test-service.json"));
+
+        verify(hoverflyClient, times(2)).setSimulation(any());
+    }
+
+    @Test
+    public void shouldNotSkipImportingUnchangedSimulationOnRemoteInstance() throws Exception {
+        hoverfly = new Hoverfly(configs().remote(), SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.importSimulation(classpath("test-service.json"));
+        hoverfly.importSimulation(classpath("test-service.json"));
+
+        verify(hoverflyClient, times(2)).setSimulation(any());
+    }
+
+    @Test
+    public void shouldVerifyAllWithSingleJournalRequestWhenLocalVerificationIsEnabled() throws Exception {
+        hoverfly = new Hoverfly(configs().localVerification(), SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        when(hoverflyClient.getSimulation()).thenReturn(SimulationSource.dsl(service("hoverfly.io").get("/").willReturn(success())).getSimulation());
+        when(hoverflyClient.getJournal()).thenReturn(mapper.readValue(Resources.getResource("sample-journal.json"), Journal.class));
+
+        hoverfly.verifyAll();
+
+        verify(hoverflyClient).getJournal();
+        verify(hoverflyClient, never()).searchJournal(any());
+    }
+
+    @Test
+    public void shouldVerifyBatchOfRequestMatchersWithSingleJournalRequestWhenLocalVerificationIsEnabled() throws Exception {
+        hoverfly = new Hoverfly(configs().localVerification(), SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        when(hoverflyClient.getJournal()).thenReturn(mapper.readValue(Resources.getResource("sample-journal.json"), Journal.class));
+
+        Map<RequestMatcherBuilder, VerificationCriteria> expectations = new LinkedHashMap<>();
+        expectations.put(service("hoverfly.io").get("/"), HoverflyVerifications.times(1));
+        expectations.put(service("hoverfly.io").post("/"), HoverflyVerifications.never());
+
+        hoverfly.verifyAll(expectations);
+
+        verify(hoverflyClient).getJournal();
+        verify(hoverflyClient, never()).searchJournal(any());
+    }
+
+    @Test
+    public void shouldComputeJournalStatsFromStreamedJournal() throws Exception {
+        hoverfly = new Hoverfly(configs().remote(), SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        Journal journal = mapper.readValue(Resources.getResource("sample-journal.json"), Journal.class);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(hoverflyClient.streamJournal()).thenReturn(journal.getEntries().stream().onClose(() -> closed.set(true)));
+
+        JournalStats stats = hoverfly.getJournalStats();
+
+        assertThat(stats.getEndpoint("hoverfly.io", "/").get().getCount()).isEqualTo(1);
+        assertThat(closed.get()).isTrue();
+        verify(hoverflyClient, never()).getJournal();
+    }
+
     @Test
     public void shouldTolerateFailureOnResetJournal() throws Exception {
 
@@ -380,12 +782,23 @@ public class HoverflyTest {
         }
     }
 
+    private static Stream<JournalEntry> capturedJournal() {
+        RequestDetails request = new RequestDetails("http", "www.my-test.com", "/api/bookings", "", "", "GET", Collections.emptyMap());
+        return Stream.of(
+                new JournalEntry(request, null, "capture", LocalDateTime.now(), 100),
+                new JournalEntry(request, null, "capture", LocalDateTime.now(), 200));
+    }
+
     private HoverflyClient createMockHoverflyClient(Hoverfly hoverfly) {
         HoverflyClient hoverflyClient = mock(HoverflyClient.class);
         Whitebox.setInternalState(hoverfly, "hoverflyClient", hoverflyClient);
         return hoverflyClient;
     }
 
+    private static Path portLease(int port) {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "hoverfly-java", "ports", String.valueOf(port));
+    }
+
     private void startDefaultHoverfly() {
         hoverfly = new Hoverfly(SIMULATE);
         hoverfly.start();
@@ -0,0 +1,91 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.verification.HoverflyVerificationError;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matchesJsonPath;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeastOnce;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JournalVerifierTest {
+
+    private final JournalVerifier verifier = new JournalVerifier(new Journal(Arrays.asList(
+            journalEntry("GET", "/api/bookings/1"),
+            journalEntry("GET", "/api/bookings/1"),
+            journalEntry("PUT", "/api/bookings/2"))), JournalVerifierTest::searchJournalOnHoverfly);
+
+    private final List<Request> searchedOnHoverfly = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void shouldSearchJournalLocally() throws Exception {
+        assertThat(verifier.search(service("www.my-test.com").get("/api/bookings/1").build()).getEntries()).hasSize(2);
+        assertThat(verifier.search(service("www.my-test.com").put("/api/bookings/2").build()).getEntries()).hasSize(1);
+        assertThat(verifier.search(service("www.other.com").get("/api/bookings/1").build()).getEntries()).isEmpty();
+    }
+
+    @Test
+    public void shouldSearchJournalOnHoverflyForRequestWhichCannotBeMatchedLocally() throws Exception {
+        Journal hoverflyJournal = new Journal(Collections.singletonList(journalEntry("POST", "/api/orders")));
+        JournalVerifier verifier = new JournalVerifier(new Journal(Collections.emptyList()), request -> {
+            searchedOnHoverfly.add(request);
+            return hoverflyJournal;
+        });
+        Request filter = service("www.my-test.com").post("/api/orders").body(matchesJsonPath("$.items[?(@.price>10)]")).build();
+        Request exact = service("www.my-test.com").post("/api/orders").build();
+
+        verifier.verify(Collections.singletonList(filter), times(1));
+
+        assertThat(verifier.search(exact).getEntries()).isEmpty();
+        assertThat(searchedOnHoverfly).containsExactly(filter);
+    }
+
+    @Test
+    public void shouldVerifyAllRequests() throws Exception {
+        verifier.verify(Arrays.asList(
+                service("www.my-test.com").get("/api/bookings/1").build(),
+                service("www.my-test.com").put("/api/bookings/2").build()), atLeastOnce());
+    }
+
+    @Test
+    public void shouldReportFirstFailingRequestInOrder() throws Exception {
+        List<Request> requests = IntStream.range(0, 100)
+                .mapToObj(i -> service("www.my-test.com").get("/api/bookings/" + i).build())
+                .collect(Collectors.toList());
+
+        assertThatThrownBy(() -> verifier.verify(requests, times(1)))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageContaining("\"exactMatch\" : \"/api/bookings/0\"");
+    }
+
+    @Test
+    public void shouldFailVerificationWithoutJournal() throws Exception {
+        assertThatThrownBy(() -> new JournalVerifier(new Journal(null), JournalVerifierTest::searchJournalOnHoverfly)
+                .verify(Collections.singletonList(service("www.my-test.com").get("/").build()), atLeastOnce()))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageContaining("Failed to get journal for verification");
+    }
+
+    private static Journal searchJournalOnHoverfly(Request request) {
+        throw new AssertionError("Journal should be searched locally for " + request);
+    }
+
+    private static JournalEntry journalEntry(String method, String path) {
+        RequestDetails request = new RequestDetails("http", "www.my-test.com", path, "", "", method, Collections.emptyMap());
+        return new JournalEntry(request, null, "simulate", LocalDateTime.now(), 1);
+    }
+}
@@ -0,0 +1,73 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProcessReaperTest {
+
+    private final ProcessReaper processReaper = ProcessReaper.getInstance();
+
+    @Test
+    public void shouldCleanUpOnlyAfterProcessHasExited() throws Exception {
+        Process process = mock(Process.class);
+        CountDownLatch processExited = new CountDownLatch(1);
+        when(process.waitFor(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> processExited.await(5, TimeUnit.SECONDS));
+        AtomicBoolean cleanedUp = new AtomicBoolean();
+
+        CompletableFuture<Void> reaped = processReaper.reap(process, () -> cleanedUp.set(true));
+
+        assertThat(reaped.isDone()).isFalse();
+        assertThat(cleanedUp.get()).isFalse();
+
+        processExited.countDown();
+        reaped.get(5, TimeUnit.SECONDS);
+        assertThat(cleanedUp.get()).isTrue();
+    }
+
+    @Test
+    public void shouldCleanUpWhenProcessDoesNotExitInTime() throws Exception {
+        Process process = mock(Process.class);
+        when(process.waitFor(anyLong(), any(TimeUnit.class))).thenReturn(false);
+        AtomicBoolean cleanedUp = new AtomicBoolean();
+
+        processReaper.reap(process, () -> cleanedUp.set(true)).get(5, TimeUnit.SECONDS);
+
+        assertThat(cleanedUp.get()).isTrue();
+    }
+
+    @Test
+    public void shouldCompleteWhenCleanUpFails() throws Exception {
+        CompletableFuture<Void> reaped = processReaper.reap(null, () -> {
+            throw new IllegalStateException("Failed to delete temp directory");
+        });
+
+        reaped.get(5, TimeUnit.SECONDS);
+
+        assertThat(reaped.isCompletedExceptionally()).isFalse();
+    }
+
+    @Test
+    public void shouldAwaitProcessesWhichArePendingCleanUp() throws Exception {
+        Process process = mock(Process.class);
+        when(process.waitFor(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return true;
+        });
+        AtomicBoolean cleanedUp = new AtomicBoolean();
+        processReaper.reap(process, () -> cleanedUp.set(true));
+
+        processReaper.awaitPending();
+
+        assertThat(cleanedUp.get()).isTrue();
+    }
+}
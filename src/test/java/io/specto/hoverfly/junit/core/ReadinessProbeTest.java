@@ -0,0 +1,78 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class ReadinessProbeTest {
+
+    private final HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+
+    @Test
+    public void shouldReturnBootLatencyWhenHoverflyIsHealthy() throws Exception {
+        when(hoverflyClient.getHealth()).thenReturn(false, false, true);
+        ReadinessProbe probe = new ReadinessProbe(Duration.ofSeconds(5));
+
+        Duration latency = probe.await(hoverflyClient);
+
+        assertThat(latency).isGreaterThan(Duration.ZERO);
+        verify(hoverflyClient, times(3)).getHealth();
+    }
+
+    @Test
+    public void shouldThrowExceptionIfHoverflyDoesNotBecomeHealthyBeforeTimeout() throws Exception {
+        ReadinessProbe probe = new ReadinessProbe(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> probe.await(hoverflyClient))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Hoverfly has not become healthy in 50 milliseconds");
+    }
+
+    @Test
+    public void shouldNotCheckHealthUntilAdminPortAcceptsConnections() throws Exception {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+        when(hoverflyClient.getHealth()).thenReturn(true);
+        ReadinessProbe probe = new ReadinessProbe(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> probe.await(hoverflyClient, new InetSocketAddress("localhost", closedPort)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(hoverflyClient, never()).getHealth();
+    }
+
+    @Test
+    public void shouldCheckHealthOnceAdminPortAcceptsConnections() throws Exception {
+        when(hoverflyClient.getHealth()).thenReturn(true);
+        ReadinessProbe probe = new ReadinessProbe(Duration.ofSeconds(5));
+
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            probe.await(hoverflyClient, new InetSocketAddress("localhost", serverSocket.getLocalPort()));
+        }
+
+        verify(hoverflyClient).getHealth();
+    }
+
+    @Test
+    public void shouldForwardProcessOutput() throws Exception {
+        ByteArrayOutputStream forwarded = new ByteArrayOutputStream();
+        ReadinessProbe probe = new ReadinessProbe(Duration.ofSeconds(5));
+
+        try (OutputStream processOutput = probe.processOutput(new PrintStream(forwarded, true))) {
+            processOutput.write("Admin interface is starting...\n".getBytes());
+        }
+
+        assertThat(forwarded.toString()).contains("Admin interface is starting...");
+    }
+}
@@ -0,0 +1,87 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecordedDelaysTest {
+
+    @Test
+    public void shouldDeriveDelayPerMethodDestinationAndPath() throws Exception {
+        List<DelaySettings> delays = RecordedDelays.fromJournal(Stream.of(
+                journalEntry("GET", "/api/bookings", 100, "capture"),
+                journalEntry("GET", "/api/bookings", 300, "capture"),
+                journalEntry("POST", "/api/bookings", 50, "capture")));
+
+        assertThat(delays).hasSize(2);
+        assertThat(delays.get(0).getHttpMethod()).isEqualTo("GET");
+        assertThat(delays.get(0).getUrlPattern()).isEqualTo("^api\\.flight\\.com/api/bookings$");
+        assertThat(delays.get(0).getDistribution().getValues()).containsExactly(100, 300);
+        assertThat(delays.get(0).getDelay()).isEqualTo(300);
+        assertThat(delays.get(1).getHttpMethod()).isEqualTo("POST");
+        assertThat(delays.get(1).getDistribution()).isEqualTo(DelayDistribution.histogram(Collections.singletonList(50)));
+    }
+
+    @Test
+    public void shouldReplayRecordedPercentiles() throws Exception {
+        List<DelaySettings> delays = RecordedDelays.fromJournal(IntStream.rangeClosed(1, 1000)
+                .mapToObj(latency -> journalEntry("GET", "/api/bookings", latency, "capture")));
+
+        List<Integer> values = delays.get(0).getDistribution().getValues();
+        assertThat(values).hasSize(100);
+        assertThat(values.get(0)).isEqualTo(5);
+        assertThat(values.get(49)).isBetween(495, 503);
+        assertThat(values.get(99)).isBetween(995, 1000);
+    }
+
+    @Test
+    public void shouldMatchOnlyTheRecordedUrl() throws Exception {
+        String urlPattern = RecordedDelays.fromJournal(Stream.of(journalEntry("GET", "/api/bookings?(1)", 10, "capture")))
+                .get(0).getUrlPattern();
+
+        assertThat(Pattern.compile(urlPattern).matcher("api.flight.com/api/bookings?(1)").find()).isTrue();
+        assertThat(Pattern.compile(urlPattern).matcher("api.flight.com/api/bookings1").find()).isFalse();
+        assertThat(Pattern.compile(urlPattern).matcher("api-flight.com/api/bookings?(1)").find()).isFalse();
+    }
+
+    @Test
+    public void shouldOnlyUseCapturedRequests() throws Exception {
+        assertThat(RecordedDelays.fromJournal(Stream.of(
+                journalEntry("GET", "/api/bookings", 10, "simulate"),
+                journalEntry("GET", "/api/bookings", null, "capture")))).isEmpty();
+    }
+
+    @Test
+    public void shouldAddDelaysAfterExistingOnes() throws Exception {
+        Simulation simulation = dsl(service("api.flight.com")
+                .get("/api/bookings").willReturn(success())
+                .andDelay(1, java.util.concurrent.TimeUnit.SECONDS).forAll()).getSimulation();
+        List<DelaySettings> delays = RecordedDelays.fromJournal(Stream.of(journalEntry("GET", "/api/bookings", 10, "capture")));
+
+        Simulation withDelays = RecordedDelays.addTo(simulation, delays);
+
+        assertThat(withDelays.getHoverflyData().getGlobalActions().getDelays())
+                .containsExactly(simulation.getHoverflyData().getGlobalActions().getDelays().get(0), delays.get(0));
+        assertThat(withDelays.getHoverflyData().getPairs()).isEqualTo(simulation.getHoverflyData().getPairs());
+    }
+
+    private static JournalEntry journalEntry(String method, String path, Integer latency, String mode) {
+        RequestDetails request = new RequestDetails("http", "api.flight.com", path, "", "", method, Collections.emptyMap());
+        return new JournalEntry(request, null, mode, LocalDateTime.now(), latency);
+    }
+}
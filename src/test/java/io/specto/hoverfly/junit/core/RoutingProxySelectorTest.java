@@ -0,0 +1,93 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoutingProxySelectorTest {
+
+    private static final Proxy CORPORATE_PROXY = new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved("proxy.corp", 3128));
+
+    private final RoutingProxySelector routingProxySelector = RoutingProxySelector.getInstance();
+    private final HoverflyProxySelector bookingsHoverfly = new HoverflyProxySelector(false, null, null);
+    private final HoverflyProxySelector flightsHoverfly = new HoverflyProxySelector(false, null, null);
+    private ProxySelector originalProxySelector;
+    private ProxySelector corporateProxySelector;
+
+    @Before
+    public void setUp() {
+        originalProxySelector = ProxySelector.getDefault();
+        corporateProxySelector = new HoverflyProxySelectorTest.FixedProxySelector(CORPORATE_PROXY);
+        ProxySelector.setDefault(corporateProxySelector);
+
+        bookingsHoverfly.setProxy("localhost", 8500, 8888);
+        bookingsHoverfly.routeDestinations(dsl(service("www.bookings.com").get("/api").willReturn(success())).getSimulation());
+        flightsHoverfly.setProxy("localhost", 8501, 8889);
+        flightsHoverfly.routeDestinations(dsl(service("www.flights.com").get("/api").willReturn(success())).getSimulation());
+    }
+
+    @After
+    public void tearDown() {
+        routingProxySelector.unregister(bookingsHoverfly);
+        routingProxySelector.unregister(flightsHoverfly);
+        ProxySelector.setDefault(originalProxySelector);
+    }
+
+    @Test
+    public void shouldInstallAsDefaultUntilTheLastSelectorIsUnregistered() {
+        routingProxySelector.register(bookingsHoverfly);
+        routingProxySelector.register(flightsHoverfly);
+        assertThat(ProxySelector.getDefault()).isSameAs(routingProxySelector);
+
+        routingProxySelector.unregister(bookingsHoverfly);
+        assertThat(ProxySelector.getDefault()).isSameAs(routingProxySelector);
+
+        routingProxySelector.unregister(flightsHoverfly);
+        assertThat(ProxySelector.getDefault()).isSameAs(corporateProxySelector);
+    }
+
+    @Test
+    public void shouldRouteEachDestinationToItsHoverfly() {
+        routingProxySelector.register(bookingsHoverfly);
+        routingProxySelector.register(flightsHoverfly);
+
+        assertThat(ProxySelector.getDefault().select(URI.create("http://www.bookings.com/api")))
+                .extracting(Proxy::address).containsExactly(InetSocketAddress.createUnresolved("localhost", 8500));
+        assertThat(ProxySelector.getDefault().select(URI.create("https://www.flights.com/api")))
+                .extracting(Proxy::address).containsExactly(InetSocketAddress.createUnresolved("localhost", 8501));
+        assertThat(ProxySelector.getDefault().select(URI.create("https://www.other-service.com/api"))).containsExactly(CORPORATE_PROXY);
+    }
+
+    @Test
+    public void shouldPreferSimulatedDestinationsOverCapturingHoverfly() {
+        bookingsHoverfly.setCapturing(true);
+        routingProxySelector.register(bookingsHoverfly);
+        routingProxySelector.register(flightsHoverfly);
+
+        assertThat(ProxySelector.getDefault().select(URI.create("https://www.flights.com/api")))
+                .extracting(Proxy::address).containsExactly(InetSocketAddress.createUnresolved("localhost", 8501));
+        assertThat(ProxySelector.getDefault().select(URI.create("https://www.other-service.com/api")))
+                .extracting(Proxy::address).containsExactly(InetSocketAddress.createUnresolved("localhost", 8500));
+    }
+
+    @Test
+    public void shouldNotRestoreTheOriginalSelectorIfAnotherHasBeenSetSince() {
+        routingProxySelector.register(bookingsHoverfly);
+        ProxySelector userProxySelector = new HoverflyProxySelectorTest.FixedProxySelector(Proxy.NO_PROXY);
+        ProxySelector.setDefault(userProxySelector);
+
+        routingProxySelector.unregister(bookingsHoverfly);
+
+        assertThat(ProxySelector.getDefault()).isSameAs(userProxySelector);
+    }
+}
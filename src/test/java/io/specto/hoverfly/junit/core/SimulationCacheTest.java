@@ -0,0 +1,96 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SimulationCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final SimulationCache cache = new SimulationCache();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<Simulation> loader = () -> {
+        loads.incrementAndGet();
+        return SimulationSource.empty().getSimulation();
+    };
+
+    @Test
+    public void shouldLoadFileSimulationOnce() throws Exception {
+        URL url = temporaryFolder.newFile("simulation.json").toURI().toURL();
+
+        Simulation first = cache.get(url, loader);
+        Simulation second = cache.get(url, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReloadFileSimulationWhenFileChanges() throws Exception {
+        Path file = temporaryFolder.newFile("simulation.json").toPath();
+        URL url = file.toUri().toURL();
+        cache.get(url, loader);
+
+        Files.write(file, "{}".getBytes());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        cache.get(url, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotAllowCachedSimulationToBeChanged() throws Exception {
+        URL url = getClass().getClassLoader().getResource("test-service.json");
+        Simulation simulation = cache.get(url, () -> SimulationSource.url(url).getSimulation());
+
+        assertThatThrownBy(() -> simulation.getHoverflyData().getPairs().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> simulation.getHoverflyData().getGlobalActions().getDelays().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(cache.get(url, loader).getHoverflyData().getPairs()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldLoadClasspathSimulationOnce() throws Exception {
+        URL url = getClass().getClassLoader().getResource("test-service.json");
+
+        cache.get(url, loader);
+        cache.get(url, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCacheRemoteSimulation() throws Exception {
+        URL url = new URL("http://localhost/simulation.json");
+
+        cache.get(url, loader);
+        cache.get(url, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldReloadSimulationAfterClear() throws Exception {
+        URL url = temporaryFolder.newFile("simulation.json").toURI().toURL();
+        cache.get(url, loader);
+
+        cache.clear();
+        cache.get(url, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
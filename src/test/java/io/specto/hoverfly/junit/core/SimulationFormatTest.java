@@ -0,0 +1,63 @@
+package io.specto.hoverfly.junit.core;
+
+import com.google.common.io.Resources;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SimulationFormatTest {
+
+    private final Simulation simulation = SimulationSource.classpath("simulations/v2-simulation.json").getSimulation();
+
+    @Test
+    public void shouldReadSimulationInEveryFormat() throws Exception {
+        for (SimulationFormat format : SimulationFormat.values()) {
+            byte[] bytes = write(format);
+
+            Simulation actual = SimulationFormat.read(new ByteArrayInputStream(bytes));
+
+            assertThat(actual).as(format.name()).isEqualTo(simulation);
+        }
+    }
+
+    @Test
+    public void shouldWritePrettyPrintedJson() throws Exception {
+        String json = new String(write(SimulationFormat.JSON), "UTF-8");
+
+        assertThat(json).startsWith("{").contains("\n");
+    }
+
+    @Test
+    public void shouldWriteSmallerCompressedAndBinaryFormats() throws Exception {
+        int json = write(SimulationFormat.JSON).length;
+
+        assertThat(write(SimulationFormat.SMILE).length).isLessThan(json);
+        assertThat(write(SimulationFormat.JSON_GZIP).length).isLessThan(json);
+        assertThat(write(SimulationFormat.SMILE_GZIP).length).isLessThan(json);
+    }
+
+    @Test
+    public void shouldReadJsonResource() throws Exception {
+        Simulation actual = SimulationFormat.read(Resources.getResource("simulations/v2-simulation.json").openStream());
+
+        assertThat(actual).isEqualTo(simulation);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfFormatIsNotRecognized() throws Exception {
+        assertThatThrownBy(() -> SimulationFormat.read(new ByteArrayInputStream("<simulation/>".getBytes())))
+                .isInstanceOf(IOException.class);
+    }
+
+    private byte[] write(SimulationFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        format.write(simulation, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,121 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.FieldMatcher;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
+import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matches;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.startsWith;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimulationMatcherTest {
+
+    @Test
+    public void shouldMatchQueryParametersInAnyOrder() throws Exception {
+        Request request = service("www.my-test.com").get("/api").queryParam("b", "2").queryParam("a", "1").willReturn(success())
+                .getRequestResponsePairs().iterator().next().getRequest();
+
+        assertThat(SimulationMatcher.matches(request, requestDetails("GET", "/api", "a=1&b=2", Collections.emptyMap()))).isTrue();
+        assertThat(SimulationMatcher.matches(request, requestDetails("GET", "/api", "a=1", Collections.emptyMap()))).isFalse();
+    }
+
+    @Test
+    public void shouldMatchHeadersCaseInsensitively() throws Exception {
+        Request request = service("www.my-test.com").get("/api").header("Content-Type", "application/json").willReturn(success())
+                .getRequestResponsePairs().iterator().next().getRequest();
+
+        assertThat(SimulationMatcher.matches(request, requestDetails("GET", "/api", "",
+                Collections.singletonMap("content-type", Collections.singletonList("application/json"))))).isTrue();
+        assertThat(SimulationMatcher.matches(request, requestDetails("GET", "/api", "", Collections.emptyMap()))).isFalse();
+    }
+
+    @Test
+    public void shouldFindFirstMatchingPair() throws Exception {
+        List<RequestResponsePair> pairs = Arrays.asList(
+                service("www.my-test.com").get("/api/bookings").willReturn(success("bookings", "text/plain"))
+                        .getRequestResponsePairs().iterator().next(),
+                service("www.my-test.com").get(startsWith("/api")).willReturn(success("api", "text/plain"))
+                        .getRequestResponsePairs().iterator().next());
+        SimulationMatcher matcher = new SimulationMatcher(pairs);
+
+        assertThat(matcher.match(requestDetails("GET", "/api/bookings", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("bookings"));
+        assertThat(matcher.match(requestDetails("GET", "/api/flights", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("api"));
+        assertThat(matcher.match(requestDetails("POST", "/api/bookings", "", Collections.emptyMap()))).isEmpty();
+    }
+
+    @Test
+    public void shouldPreferEarlierPairOverIndexedPair() throws Exception {
+        List<RequestResponsePair> pairs = Arrays.asList(
+                service("www.my-test.com").get(startsWith("/api")).willReturn(success("api", "text/plain"))
+                        .getRequestResponsePairs().iterator().next(),
+                service("www.my-test.com").get("/api/bookings").willReturn(success("bookings", "text/plain"))
+                        .getRequestResponsePairs().iterator().next());
+        SimulationMatcher matcher = new SimulationMatcher(pairs);
+
+        assertThat(matcher.match(requestDetails("GET", "/api/bookings", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("api"));
+    }
+
+    @Test
+    public void shouldMatchPairsIndexedByPathAndByRequest() throws Exception {
+        StubServiceBuilder service = service(matches("www.*-test.com"));
+        IntStream.range(0, 5000).forEach(i -> service.get("/api/bookings/" + i).willReturn(success("glob " + i, "text/plain")));
+        List<RequestResponsePair> pairs = new ArrayList<>(service.getRequestResponsePairs());
+        IntStream.range(0, 5000).forEach(i -> pairs.add(service("www.my-test.com").put("/api/bookings/" + i)
+                .willReturn(success("exact " + i, "text/plain")).getRequestResponsePairs().iterator().next()));
+        SimulationMatcher matcher = new SimulationMatcher(pairs);
+
+        assertThat(matcher.match(requestDetails("GET", "/api/bookings/4321", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("glob 4321"));
+        assertThat(matcher.match(requestDetails("PUT", "/api/bookings/1234", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("exact 1234"));
+        assertThat(matcher.match(requestDetails("DELETE", "/api/bookings/1234", "", Collections.emptyMap()))).isEmpty();
+    }
+
+    @Test
+    public void shouldMatchPairsIndexedByDestinationAndPathPrefix() throws Exception {
+        List<RequestResponsePair> pairs = new ArrayList<>();
+        IntStream.range(0, 1000).forEach(i -> pairs.add(pair(service("www.my-test.com").get(matches("/api" + i + "/bookings/*")), "glob " + i)));
+        pairs.add(pair(service(matches("www.*-test.com")).get(matches("/flights/*")), "any destination"));
+        pairs.add(pair(service("www.my-test.com").get(matches("*/hotels")), "any path"));
+        pairs.add(new RequestResponsePair(new Request(new FieldMatcher.Builder().regexMatch("^/cars/?[0-9]+$").build(),
+                FieldMatcher.exactlyMatches("GET"), FieldMatcher.exactlyMatches("www.my-test.com"), null, null, null, null),
+                pair(service("www.my-test.com").get("/"), "regex").getResponse()));
+        SimulationMatcher matcher = new SimulationMatcher(pairs);
+
+        assertThat(matcher.match(requestDetails("GET", "/api321/bookings/1", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("glob 321"));
+        assertThat(matcher.match(requestDetails("GET", "/flights/1", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("any destination"));
+        assertThat(matcher.match(requestDetails("GET", "/api/hotels", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("any path"));
+        assertThat(matcher.match(requestDetails("GET", "/cars1", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("regex"));
+        assertThat(matcher.match(requestDetails("GET", "/cars/1", "", Collections.emptyMap())))
+                .hasValueSatisfying(pair -> assertThat(pair.getResponse().getBody()).isEqualTo("regex"));
+        assertThat(matcher.match(requestDetails("GET", "/api1000/bookings/1", "", Collections.emptyMap()))).isEmpty();
+    }
+
+    private static RequestResponsePair pair(RequestMatcherBuilder request, String body) {
+        return request.willReturn(success(body, "text/plain")).getRequestResponsePairs().iterator().next();
+    }
+
+    private static RequestDetails requestDetails(String method, String path, String query, Map<String, List<String>> headers) {
+        return new RequestDetails("http", "www.my-test.com", path, query, "", method, headers);
+    }
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
 import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
@@ -188,4 +189,34 @@ public class SimulationSourceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Cannot load file resource: 'foo'");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldParseClasspathSimulationOnlyOnce() throws Exception {
+
+        // When
+        Simulation first = SimulationSource.classpath("test-service.json").getSimulation();
+        Simulation second = SimulationSource.classpath("test-service.json").getSimulation();
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void shouldOnlyCreateCachedSimulationOnce() throws Exception {
+
+        // Given
+        AtomicInteger invocations = new AtomicInteger();
+        SimulationSource simulationSource = SimulationSource.cached(() -> {
+            invocations.incrementAndGet();
+            return SimulationSource.empty().getSimulation();
+        });
+
+        // When
+        Simulation first = simulationSource.getSimulation();
+        Simulation second = simulationSource.getSimulation();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,82 @@
+package io.specto.hoverfly.junit.core;
+
+import com.google.common.io.Resources;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.SSLContext;
+import java.io.InputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SslConfigurerTest {
+
+    private SSLContext originalSslContext;
+
+    @Before
+    public void setUp() throws Exception {
+        originalSslContext = SSLContext.getDefault();
+    }
+
+    @After
+    public void tearDown() {
+        SSLContext.setDefault(originalSslContext);
+    }
+
+    @Test
+    public void shouldShareSslContextBetweenInstancesWithTheSameCertificate() {
+        SslConfigurer sslConfigurer = new SslConfigurer();
+        SslConfigurer otherSslConfigurer = new SslConfigurer();
+
+        sslConfigurer.initSslContext("ssl/ca.crt");
+        otherSslConfigurer.initSslContext("ssl/ca.crt");
+
+        assertThat(otherSslConfigurer.getSslContext()).isSameAs(sslConfigurer.getSslContext());
+        assertThat(otherSslConfigurer.getTrustManager()).isSameAs(sslConfigurer.getTrustManager());
+    }
+
+    @Test
+    public void shouldCreateSslContextForEachCertificate() {
+        SslConfigurer sslConfigurer = new SslConfigurer();
+        SslConfigurer otherSslConfigurer = new SslConfigurer();
+
+        sslConfigurer.initSslContext();
+        otherSslConfigurer.initSslContext("ssl/ca.crt");
+
+        assertThat(otherSslConfigurer.getSslContext()).isNotSameAs(sslConfigurer.getSslContext());
+    }
+
+    @Test
+    public void shouldNotChangeDefaultSslContextWhenOnlyCreatingIt() throws Exception {
+        SslConfigurer sslConfigurer = new SslConfigurer();
+
+        sslConfigurer.initSslContext("ssl/ca.crt");
+
+        assertThat(SSLContext.getDefault()).isSameAs(originalSslContext);
+    }
+
+    @Test
+    public void shouldSetDefaultSslContext() throws Exception {
+        SslConfigurer sslConfigurer = new SslConfigurer();
+
+        sslConfigurer.setDefaultSslContext("ssl/ca.crt");
+
+        assertThat(SSLContext.getDefault()).isSameAs(sslConfigurer.getSslContext());
+    }
+
+    @Test
+    public void shouldTrustHoverflyCertificate() throws Exception {
+        SslConfigurer sslConfigurer = new SslConfigurer();
+        sslConfigurer.initSslContext("ssl/ca.crt");
+
+        X509Certificate certificate;
+        try (InputStream inputStream = Resources.getResource("ssl/ca.crt").openStream()) {
+            certificate = (X509Certificate) CertificateFactory.getInstance("X509").generateCertificate(inputStream);
+        }
+
+        sslConfigurer.getTrustManager().checkServerTrusted(new X509Certificate[] { certificate }, "RSA");
+    }
+}
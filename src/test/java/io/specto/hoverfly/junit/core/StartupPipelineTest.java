@@ -0,0 +1,104 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StartupPipelineTest {
+
+    private final StartupPipeline pipeline = new StartupPipeline();
+
+    @Test
+    public void shouldRecordTimingOfEachStepInStartOrder() throws Exception {
+        pipeline.run("boot", () -> sleep(20));
+        StartupPipeline.join(pipeline.async("mode", () -> sleep(1)));
+
+        assertThat(pipeline.getTimings()).containsOnlyKeys("boot", "mode");
+        assertThat(pipeline.getTimings().keySet()).containsExactly("boot", "mode");
+        assertThat(pipeline.getTimings().get("boot")).isGreaterThanOrEqualTo(20);
+        assertThat(pipeline.getElapsedMillis()).isGreaterThanOrEqualTo(20);
+        assertThat(pipeline.toString()).startsWith("boot ").contains(" ms, mode ");
+    }
+
+    @Test
+    public void shouldRunBackgroundStepsWhileStepOnCallingThreadRuns() throws Exception {
+        final CountDownLatch backgroundStarted = new CountDownLatch(1);
+        final CompletableFuture<String> simulation = pipeline.async("simulation", () -> {
+            backgroundStarted.countDown();
+            return "simulation";
+        });
+
+        pipeline.run("boot", () -> {
+            try {
+                assertThat(backgroundStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(StartupPipeline.join(simulation)).isEqualTo("simulation");
+    }
+
+    @Test
+    public void shouldThrowExceptionOfFailedStepWhenJoining() throws Exception {
+        final CompletableFuture<Void> step = pipeline.async("ssl", () -> {
+            throw new IllegalStateException("Failed to load certificate");
+        });
+
+        assertThatThrownBy(() -> StartupPipeline.join(step))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed to load certificate");
+        assertThat(pipeline.getTimings()).containsKey("ssl");
+    }
+
+    @Test
+    public void shouldRunBackgroundStepsWithContextClassLoaderOfCaller() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        final ClassLoader first = new URLClassLoader(new URL[0], original);
+        final ClassLoader second = new URLClassLoader(new URL[0], original);
+        try {
+            thread.setContextClassLoader(first);
+            assertThat(StartupPipeline.join(pipeline.async("first", () -> Thread.currentThread().getContextClassLoader()))).isSameAs(first);
+
+            thread.setContextClassLoader(second);
+            assertThat(StartupPipeline.join(pipeline.async("second", () -> Thread.currentThread().getContextClassLoader()))).isSameAs(second);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void shouldNotReportStepsWhichHaveNotFinished() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> step = pipeline.async("import", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        pipeline.run("boot", () -> { });
+
+        assertThat(pipeline.getTimings()).containsOnlyKeys("boot");
+
+        release.countDown();
+        StartupPipeline.join(step);
+        assertThat(pipeline.getTimings()).containsKey("import");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
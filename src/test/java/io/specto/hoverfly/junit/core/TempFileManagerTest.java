@@ -1,11 +1,14 @@
 package io.specto.hoverfly.junit.core;
 
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.Resources;
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.net.URL;
 import java.nio.file.Files;
@@ -19,6 +22,9 @@ import static org.mockito.Mockito.when;
 
 public class TempFileManagerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private TempFileManager tempFileManager;
     private String systemTempDir = System.getProperty("java.io.tmpdir");
 
@@ -68,11 +74,10 @@ public class TempFileManagerTest {
     public void shouldCopyHoverflyBinary() throws Exception {
 
         // Given
+        tempFileManager = new TempFileManager(null);
         URL sourceFileUrl = Resources.getResource("binaries/hoverfly_OSX_amd64");
         Path sourceFile = Paths.get(sourceFileUrl.toURI());
-        SystemConfig systemConfig = mock(SystemConfig.class);
-        when(systemConfig.getHoverflyBinaryName()).thenReturn("hoverfly_OSX_amd64");
-        when(systemConfig.getOsName()).thenReturn(OSX);
+        SystemConfig systemConfig = mockSystemConfig();
 
         // When
         Path targetFile = tempFileManager.copyHoverflyBinary(systemConfig);
@@ -87,6 +92,86 @@ public class TempFileManagerTest {
 
     }
 
+    @Test
+    public void shouldInstallHoverflyBinaryInCacheDirectory() throws Exception {
+
+        // Given
+        Path cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+        tempFileManager = new TempFileManager(cacheDirectory);
+        Path sourceFile = Paths.get(Resources.getResource("binaries/hoverfly_OSX_amd64").toURI());
+
+        // When
+        Path targetFile = tempFileManager.copyHoverflyBinary(mockSystemConfig());
+
+        // Then
+        assertThat(Files.isExecutable(targetFile)).isTrue();
+        assertThat(targetFile.getParent().getParent()).isEqualTo(cacheDirectory);
+        assertThat(targetFile.getParent().getFileName().toString()).matches("[0-9a-f]{64}");
+        assertThat(FileUtils.contentEquals(sourceFile.toFile(), targetFile.toFile())).isTrue();
+        assertThat(Files.isDirectory(tempFileManager.getTempDirectory())).isTrue();
+    }
+
+    @Test
+    public void shouldReuseHoverflyBinaryInstalledInCacheDirectory() throws Exception {
+
+        // Given
+        Path cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+        Path installedFile = new TempFileManager(cacheDirectory).copyHoverflyBinary(mockSystemConfig());
+        long lastModified = Files.getLastModifiedTime(installedFile).toMillis();
+
+        // When
+        tempFileManager = new TempFileManager(cacheDirectory);
+        Path targetFile = tempFileManager.copyHoverflyBinary(mockSystemConfig());
+
+        // Then
+        assertThat(targetFile).isEqualTo(installedFile);
+        assertThat(Files.getLastModifiedTime(targetFile).toMillis()).isEqualTo(lastModified);
+    }
+
+    @Test
+    public void shouldReinstallCachedHoverflyBinaryWhichDoesNotMatchChecksum() throws Exception {
+
+        // Given
+        Path cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+        URL source = Resources.getResource("binaries/hoverfly_OSX_amd64");
+        byte[] binary = Resources.toByteArray(source);
+        Path tamperedFile = cacheDirectory.resolve(Hashing.sha256().hashBytes(binary).toString()).resolve("hoverfly_OSX_amd64");
+        Files.createDirectories(tamperedFile.getParent());
+        Files.write(tamperedFile, new byte[binary.length]);
+        tamperedFile.toFile().setExecutable(true);
+
+        // When
+        tempFileManager = new TempFileManager(cacheDirectory);
+        Path targetFile = tempFileManager.copyHoverflyBinary(mockSystemConfig());
+
+        // Then
+        assertThat(targetFile).isEqualTo(tamperedFile);
+        assertThat(Files.readAllBytes(targetFile)).isEqualTo(binary);
+        assertThat(Files.isExecutable(targetFile)).isTrue();
+    }
+
+    @Test
+    public void shouldCopyHoverflyBinaryToTempDirectoryIfCacheDirectoryIsNotWritable() throws Exception {
+
+        // Given
+        Path notADirectory = temporaryFolder.newFile("cache").toPath();
+        tempFileManager = new TempFileManager(notADirectory);
+
+        // When
+        Path targetFile = tempFileManager.copyHoverflyBinary(mockSystemConfig());
+
+        // Then
+        assertThat(Files.isExecutable(targetFile)).isTrue();
+        assertThat(targetFile.getParent()).isEqualTo(tempFileManager.getTempDirectory());
+    }
+
+    private SystemConfig mockSystemConfig() {
+        SystemConfig systemConfig = mock(SystemConfig.class);
+        when(systemConfig.getHoverflyBinaryName()).thenReturn("hoverfly_OSX_amd64");
+        when(systemConfig.getOsName()).thenReturn(OSX);
+        return systemConfig;
+    }
+
     @After
     public void tearDown() throws Exception {
         tempFileManager.purge();
@@ -0,0 +1,118 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.api.HoverflyClientException;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.verification.HoverflyVerificationError;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeastOnce;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class VerifierTest {
+
+    private final Journal journal = new Journal(Arrays.asList(
+            journalEntry("GET", "/api/bookings/1"),
+            journalEntry("GET", "/api/bookings/1"),
+            journalEntry("PUT", "/api/bookings/2")));
+
+    private final HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+
+    @Test
+    public void shouldVerifyAllExpectationsWithSingleJournalRequest() throws Exception {
+        when(hoverflyClient.getJournal()).thenReturn(journal);
+
+        new Verifier(hoverflyClient, true)
+                .expect(service("www.my-test.com").get("/api/bookings/1"), times(2))
+                .expect(service("www.my-test.com").put("/api/bookings/2"))
+                .expectZeroRequestTo(service("www.other.com"))
+                .check();
+
+        verify(hoverflyClient).getJournal();
+        verify(hoverflyClient, Mockito.never()).searchJournalAsync(any());
+    }
+
+    @Test
+    public void shouldSearchJournalForAllExpectationsConcurrently() throws Exception {
+        when(hoverflyClient.searchJournalAsync(any())).thenReturn(
+                CompletableFuture.completedFuture(new Journal(journal.getEntries().subList(0, 2))),
+                CompletableFuture.completedFuture(new Journal(journal.getEntries().subList(2, 3))));
+
+        new Verifier(hoverflyClient, false)
+                .expect(service("www.my-test.com").get("/api/bookings/1"), times(2))
+                .expect(service("www.my-test.com").put("/api/bookings/2"), atLeastOnce())
+                .check();
+
+        verify(hoverflyClient, Mockito.times(2)).searchJournalAsync(any());
+        verify(hoverflyClient, Mockito.never()).getJournal();
+    }
+
+    @Test
+    public void shouldReportEveryFailedExpectation() throws Exception {
+        when(hoverflyClient.getJournal()).thenReturn(journal);
+
+        assertThatThrownBy(() -> new Verifier(hoverflyClient, true)
+                .expect(service("www.my-test.com").get("/api/bookings/1"), never())
+                .expect(service("www.my-test.com").put("/api/bookings/2"))
+                .expect(service("www.my-test.com").delete("/api/bookings/3"))
+                .check())
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageStartingWith("2 of 3 verifications failed:")
+                .hasMessageContaining("1) Not expected any request")
+                .hasMessageContaining("2) Expected 1 request")
+                .hasMessageContaining("\"exactMatch\" : \"/api/bookings/3\"");
+    }
+
+    @Test
+    public void shouldReportSingleFailedExpectationAsIs() throws Exception {
+        when(hoverflyClient.getJournal()).thenReturn(journal);
+
+        assertThatThrownBy(() -> new Verifier(hoverflyClient, true)
+                .expect(service("www.my-test.com").get("/api/bookings/1"), times(2))
+                .expect(service("www.my-test.com").delete("/api/bookings/3"))
+                .check())
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageStartingWith("Expected 1 request");
+    }
+
+    @Test
+    public void shouldRethrowJournalSearchFailure() throws Exception {
+        CompletableFuture<Journal> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new HoverflyClientException("Failed to search journal"));
+        when(hoverflyClient.searchJournalAsync(any())).thenReturn(failure);
+
+        assertThatThrownBy(() -> new Verifier(hoverflyClient, false)
+                .expect(service("www.my-test.com").get("/api/bookings/1"))
+                .check())
+                .isInstanceOf(HoverflyClientException.class)
+                .hasMessage("Failed to search journal");
+    }
+
+    @Test
+    public void shouldNotRequestJournalWithoutExpectations() throws Exception {
+        new Verifier(hoverflyClient, true).check();
+
+        verifyZeroInteractions(hoverflyClient);
+    }
+
+    private static JournalEntry journalEntry(String method, String path) {
+        RequestDetails request = new RequestDetails("http", "www.my-test.com", path, "", "", method, Collections.emptyMap());
+        return new JournalEntry(request, null, "simulate", LocalDateTime.now(), 1);
+    }
+}
@@ -4,6 +4,8 @@ package io.specto.hoverfly.junit.core.config;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.Duration;
+
 import static io.specto.hoverfly.junit.core.HoverflyConfig.configs;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +38,37 @@ public class HoverflyConfigValidatorTest {
 
         assertThat(validated.getProxyPort()).isNotZero();
         assertThat(validated.getAdminPort()).isNotZero();
+        assertThat(validated.isDynamicProxyPort()).isTrue();
+        assertThat(validated.isDynamicAdminPort()).isTrue();
+    }
+
+    @Test
+    public void shouldNotMarkUserDefinedPortsAsDynamic() throws Exception {
+
+        HoverflyConfiguration validated = configs().proxyPort(8500).build();
+
+
+        assertThat(validated.isDynamicProxyPort()).isFalse();
+        assertThat(validated.isDynamicAdminPort()).isTrue();
+    }
+
+    @Test
+    public void shouldNotAssignAdminPortForEmbeddedHoverfly() throws Exception {
+
+        HoverflyConfiguration validated = configs().embedded().build();
+
+
+        assertThat(validated.isEmbedded()).isTrue();
+        assertThat(validated.getProxyPort()).isNotZero();
+        assertThat(validated.getAdminPort()).isZero();
+    }
+
+    @Test
+    public void shouldThrowExceptionIfSslCertIsConfiguredForEmbeddedHoverfly() throws Exception {
+
+        assertThatThrownBy(() -> configs().embedded().sslCertificatePath("ssl/ca.crt").sslKeyPath("ssl/ca.key").build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Embedded Hoverfly does not support HTTPS");
     }
 
     @Test
@@ -99,4 +132,12 @@ public class HoverflyConfigValidatorTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("Resource not found with name: some-cert.pem");
     }
+
+    @Test
+    public void shouldThrowExceptionIfHealthCheckTimeoutIsNotPositive() throws Exception {
+
+        assertThatThrownBy(() -> configs().healthCheckTimeout(Duration.ZERO).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Health check timeout must be positive.");
+    }
 }
\ No newline at end of file
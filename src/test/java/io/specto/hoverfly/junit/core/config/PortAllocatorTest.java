@@ -0,0 +1,136 @@
+package io.specto.hoverfly.junit.core.config;
+
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.specto.hoverfly.junit.core.HoverflyConfig.configs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PortAllocatorTest {
+
+    private static final Path LEASE_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "hoverfly-java", "ports");
+
+    @Test
+    public void shouldAllocateDistinctUnusedPorts() throws Exception {
+        Set<Integer> ports = new HashSet<>();
+
+        for (int i = 0; i < 10; i++) {
+            ports.add(PortAllocator.allocate());
+        }
+
+        assertThat(ports).hasSize(10);
+        assertThat(ports).allMatch(PortAllocator::isAvailable);
+        ports.forEach(PortAllocator::release);
+    }
+
+    @Test
+    public void shouldLeasePortUntilReleased() throws Exception {
+        int port = PortAllocator.allocate();
+
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(port))).exists();
+
+        PortAllocator.release(port);
+
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(port))).doesNotExist();
+    }
+
+    @Test
+    public void shouldNotReleasePortNotAllocatedByThisJvm() throws Exception {
+        int port = PortAllocator.allocate();
+        PortAllocator.release(port);
+        Path lease = LEASE_DIRECTORY.resolve(String.valueOf(port));
+        lease.toFile().createNewFile();
+
+        PortAllocator.release(port);
+
+        assertThat(lease).exists();
+        lease.toFile().delete();
+    }
+
+    @Test
+    public void shouldOnlyLeaseAssignedPortsOfConfigurationWhenLeasing() throws Exception {
+        HoverflyConfiguration configuration = configs().build();
+        int proxyPort = configuration.getProxyPort();
+        int adminPort = configuration.getAdminPort();
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(proxyPort))).doesNotExist();
+
+        PortAllocator.lease(configuration);
+
+        assertThat(configuration.getProxyPort()).isEqualTo(proxyPort);
+        assertThat(configuration.getAdminPort()).isEqualTo(adminPort);
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(proxyPort))).exists();
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(adminPort))).exists();
+        PortAllocator.release(proxyPort);
+        PortAllocator.release(adminPort);
+    }
+
+    @Test
+    public void shouldLeaseNewPortWhenAssignedPortHasBeenTaken() throws Exception {
+        HoverflyConfiguration configuration = configs().adminPort(8888).build();
+        int proxyPort = configuration.getProxyPort();
+
+        try (ServerSocket ignored = new ServerSocket(proxyPort)) {
+            PortAllocator.lease(configuration);
+        }
+
+        assertThat(configuration.getProxyPort()).isNotEqualTo(proxyPort);
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(proxyPort))).doesNotExist();
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(configuration.getProxyPort()))).exists();
+        PortAllocator.release(configuration.getProxyPort());
+    }
+
+    @Test
+    public void shouldReallocateOnlyDynamicPortsOfConfiguration() throws Exception {
+        HoverflyConfiguration configuration = configs().proxyPort(8500).build();
+        PortAllocator.lease(configuration);
+        int adminPort = configuration.getAdminPort();
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(adminPort))).exists();
+
+        PortAllocator.reallocate(configuration, true);
+
+        assertThat(configuration.getProxyPort()).isEqualTo(8500);
+        assertThat(configuration.getAdminPort()).isNotEqualTo(adminPort);
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(adminPort))).doesNotExist();
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(configuration.getAdminPort()))).exists();
+        PortAllocator.release(configuration.getAdminPort());
+    }
+
+    @Test
+    public void shouldKeepLeasesOfPortsWhichAreNotReleasedWhenReallocating() throws Exception {
+        HoverflyConfiguration configuration = configs().build();
+        PortAllocator.lease(configuration);
+        int proxyPort = configuration.getProxyPort();
+        int adminPort = configuration.getAdminPort();
+
+        PortAllocator.reallocate(configuration, false);
+
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(proxyPort))).exists();
+        assertThat(LEASE_DIRECTORY.resolve(String.valueOf(adminPort))).exists();
+        PortAllocator.release(proxyPort);
+        PortAllocator.release(adminPort);
+        PortAllocator.release(configuration.getProxyPort());
+        PortAllocator.release(configuration.getAdminPort());
+    }
+
+    @Test
+    public void shouldAdoptPortsOfRunningProcessOnlyForDynamicPorts() throws Exception {
+        HoverflyConfiguration configuration = configs().proxyPort(8500).build();
+
+        PortAllocator.adopt(configuration, 8600, 8888);
+
+        assertThat(configuration.getProxyPort()).isEqualTo(8500);
+        assertThat(configuration.getAdminPort()).isEqualTo(8888);
+    }
+
+    @Test
+    public void shouldNotReportBoundPortAsAvailable() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            assertThat(PortAllocator.isAvailable(serverSocket.getLocalPort())).isFalse();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.specto.hoverfly.junit.core.model;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class DelayDistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void shouldSampleUniformDelaysWithinRange() throws Exception {
+        int[] delays = sample(DelayDistribution.uniform(100, 200));
+
+        assertThat(IntStream.of(delays).min().getAsInt()).isEqualTo(100);
+        assertThat(IntStream.of(delays).max().getAsInt()).isEqualTo(200);
+        assertThat(IntStream.of(delays).average().getAsDouble()).isCloseTo(150, within(1.0));
+    }
+
+    @Test
+    public void shouldSampleNormalDelaysAroundMean() throws Exception {
+        int[] delays = sample(DelayDistribution.normal(200, 20));
+
+        assertThat(IntStream.of(delays).average().getAsDouble()).isCloseTo(200, within(1.0));
+        assertThat(percentile(delays, 84)).isCloseTo(220, within(2));
+    }
+
+    @Test
+    public void shouldNotSampleNegativeDelays() throws Exception {
+        assertThat(IntStream.of(sample(DelayDistribution.normal(10, 50))).min().getAsInt()).isZero();
+    }
+
+    @Test
+    public void shouldSampleLogNormalDelaysWithMedianAndMean() throws Exception {
+        int[] delays = sample(DelayDistribution.logNormal(100, 150));
+
+        assertThat(percentile(delays, 50)).isCloseTo(100, within(2));
+        assertThat(IntStream.of(delays).average().getAsDouble()).isCloseTo(150, within(5.0));
+        assertThat(percentile(delays, 99)).isGreaterThan(500);
+    }
+
+    @Test
+    public void shouldReplayHistogramValues() throws Exception {
+        DelayDistribution distribution = DelayDistribution.histogram(Arrays.asList(300, 10, 20));
+        int[] delays = sample(distribution);
+
+        assertThat(IntStream.of(delays).distinct().sorted().toArray()).containsExactly(10, 20, 300);
+        assertThat(distribution.getTypicalDelay()).isEqualTo(20);
+    }
+
+    @Test
+    public void shouldKeepDelaysWithinBounds() throws Exception {
+        int[] delays = sample(DelayDistribution.logNormal(100, 200).withBounds(50, 400));
+
+        assertThat(IntStream.of(delays).min().getAsInt()).isEqualTo(50);
+        assertThat(IntStream.of(delays).max().getAsInt()).isEqualTo(400);
+    }
+
+    @Test
+    public void shouldUseMedianAsTypicalDelay() throws Exception {
+        assertThat(DelayDistribution.uniform(100, 200).getTypicalDelay()).isEqualTo(150);
+        assertThat(DelayDistribution.normal(200, 20).getTypicalDelay()).isEqualTo(200);
+        assertThat(DelayDistribution.logNormal(100, 150).getTypicalDelay()).isEqualTo(100);
+        assertThat(DelayDistribution.logNormal(100, 150).withBounds(120, 200).getTypicalDelay()).isEqualTo(120);
+    }
+
+    @Test
+    public void shouldRejectInvalidParameters() throws Exception {
+        assertThatThrownBy(() -> DelayDistribution.uniform(200, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DelayDistribution.normal(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DelayDistribution.logNormal(150, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DelayDistribution.histogram(Arrays.asList())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldRejectDistributionWithoutParametersOfItsTypeWhenReading() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        for (String distribution : Arrays.asList("{}", "{\"type\":\"uniform\",\"min\":10}", "{\"type\":\"normal\",\"mean\":100}",
+                "{\"type\":\"logNormal\",\"mean\":100}", "{\"type\":\"histogram\"}", "{\"type\":\"histogram\",\"values\":[10,-1]}")) {
+            assertThatThrownBy(() -> objectMapper.readValue(
+                    "{\"urlPattern\":\"www.my-test.com\",\"delay\":100,\"distribution\":" + distribution + "}", DelaySettings.class))
+                    .as(distribution)
+                    .isInstanceOf(JsonMappingException.class)
+                    .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void shouldUseMedianOfUnsortedHistogramValuesWhenReading() throws Exception {
+        DelayDistribution distribution = new ObjectMapper().readValue("{\"type\":\"histogram\",\"values\":[300,100,200]}", DelayDistribution.class);
+
+        assertThat(distribution.getTypicalDelay()).isEqualTo(200);
+    }
+
+    @Test
+    public void shouldSerializeAndDeserialize() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        DelaySettings delaySettings = new DelaySettings("www.my-test.com", 100, "GET", DelayDistribution.logNormal(100, 150).withBounds(10, 1000));
+
+        String json = objectMapper.writeValueAsString(delaySettings);
+
+        assertThat(json).contains("\"type\":\"logNormal\"").doesNotContain("typicalDelay").doesNotContain("values");
+        assertThat(objectMapper.readValue(json, DelaySettings.class)).isEqualTo(delaySettings);
+        assertThat(objectMapper.readValue("{\"urlPattern\":\"www.my-test.com\",\"delay\":100}", DelaySettings.class).getDistribution()).isNull();
+    }
+
+    private int[] sample(DelayDistribution distribution) {
+        return IntStream.range(0, SAMPLES).map(i -> distribution.sample(random)).toArray();
+    }
+
+    private static int percentile(int[] delays, double percentile) {
+        int[] sorted = IntStream.of(delays).sorted().toArray();
+        return sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1];
+    }
+}
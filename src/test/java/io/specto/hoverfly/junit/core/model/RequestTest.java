@@ -0,0 +1,77 @@
+package io.specto.hoverfly.junit.core.model;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.specto.hoverfly.junit.core.model.FieldMatcher.exactlyMatches;
+import static io.specto.hoverfly.junit.core.model.FieldMatcher.wildCardMatches;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RequestTest {
+
+    @Test
+    public void shouldBeEqualWhenAllFieldsAreEqual() {
+        Request request = createRequest(exactlyMatches("/api/bookings"), headers("Accept", "application/json"));
+        Request other = createRequest(exactlyMatches("/api/bookings"), headers("Accept", "application/json"));
+
+        assertThat(request).isEqualTo(other);
+        assertThat(request.hashCode()).isEqualTo(other.hashCode());
+    }
+
+    @Test
+    public void shouldNotBeEqualWhenAnyFieldDiffers() {
+        Request request = createRequest(exactlyMatches("/api/bookings"), headers("Accept", "application/json"));
+
+        assertThat(request).isNotEqualTo(createRequest(wildCardMatches("/api/bookings"), headers("Accept", "application/json")));
+        assertThat(request).isNotEqualTo(createRequest(exactlyMatches("/api/bookings"), headers("Accept", "application/xml")));
+        assertThat(request).isNotEqualTo(createRequest(exactlyMatches("/api/bookings"), null));
+    }
+
+    @Test
+    public void shouldIgnoreRequestTypeWhenComparing() {
+        Request request = createRequest(exactlyMatches("/api/bookings"), headers("Accept", "application/json"));
+        Request recording = new Request(exactlyMatches("/api/bookings"), exactlyMatches("GET"), exactlyMatches("www.my-test.com"),
+                exactlyMatches("http"), exactlyMatches(""), exactlyMatches(""), headers("Accept", "application/json"),
+                Request.RequestType.RECORDING);
+
+        assertThat(recording).isEqualTo(request);
+        assertThat(recording.hashCode()).isEqualTo(request.hashCode());
+    }
+
+    @Test
+    public void shouldNotChangeWhenTheHeadersItWasCreatedWithChange() {
+        Map<String, List<String>> headers = headers("Accept", "application/json");
+        Request request = createRequest(exactlyMatches("/api/bookings"), headers);
+        int hashCode = request.hashCode();
+
+        headers.put("Content-Type", Collections.singletonList("application/json"));
+
+        assertThat(request.getHeaders()).containsOnlyKeys("Accept");
+        assertThat(request.hashCode()).isEqualTo(hashCode);
+        assertThatThrownBy(() -> request.getHeaders().put("Content-Type", Collections.emptyList()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static Request createRequest(FieldMatcher path, Map<String, List<String>> headers) {
+        return new Request.Builder()
+                .path(path)
+                .method(exactlyMatches("GET"))
+                .destination(exactlyMatches("www.my-test.com"))
+                .scheme(exactlyMatches("http"))
+                .query(exactlyMatches(""))
+                .body(exactlyMatches(""))
+                .headers(headers)
+                .build();
+    }
+
+    private static Map<String, List<String>> headers(String name, String value) {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put(name, Collections.singletonList(value));
+        return headers;
+    }
+}
@@ -3,6 +3,8 @@ package io.specto.hoverfly.junit.dsl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Iterables;
+import io.specto.hoverfly.junit.core.model.DelayDistribution;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
 import io.specto.hoverfly.junit.core.model.FieldMatcher;
 import io.specto.hoverfly.junit.core.model.RequestResponsePair;
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -10,6 +12,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Set;
 
 import static io.specto.hoverfly.assertions.Assertions.assertThat;
@@ -465,4 +468,21 @@ public class StubServiceBuilderTest {
             return ToStringBuilder.reflectionToString(this);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldBuildDelaySettingsWithDistribution() throws Exception {
+        final StubServiceBuilder service = service("www.my-test.com")
+                .get("/api/bookings").willReturn(success().withDelay(DelayDistribution.logNormal(100, 150)))
+                .andDelay(DelayDistribution.uniform(200, 400)).forMethod("POST");
+
+        final List<DelaySettings> delaySettings = service.getDelaySettings();
+
+        assertThat(delaySettings).hasSize(2);
+        assertThat(delaySettings.get(0).getUrlPattern()).isEqualTo("www.my-test.com/api/bookings");
+        assertThat(delaySettings.get(0).getDelay()).isEqualTo(100);
+        assertThat(delaySettings.get(0).getDistribution()).isEqualTo(DelayDistribution.logNormal(100, 150));
+        assertThat(delaySettings.get(1).getHttpMethod()).isEqualTo("POST");
+        assertThat(delaySettings.get(1).getDelay()).isEqualTo(300);
+        assertThat(delaySettings.get(1).getDistribution().getType()).isEqualTo(DelayDistribution.Type.UNIFORM);
+    }
+}
@@ -28,7 +28,7 @@ public class HoverflyRuleTest {
 
         hoverflyRule.before();
 
-        verify(mockHoverfly).importSimulation(empty());
+        verify(mockHoverfly).start(empty());
     }
 
     @Test
@@ -38,6 +38,8 @@ public class HoverflyRuleTest {
 
         hoverflyRule.before();
 
+        verify(mockHoverfly).start();
+        verify(mockHoverfly, never()).start(any());
         verify(mockHoverfly, never()).importSimulation(any());
     }
 
@@ -0,0 +1,89 @@
+package io.specto.hoverfly.junit.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class JournalStatsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2017, 6, 22, 13, 18, 8, 50_000_000);
+
+    @Test
+    public void shouldComputeLatencyPerEndpoint() throws Exception {
+        JournalStats stats = JournalStats.of(Stream.of(
+                journalEntry("api.flight.com", "/api/bookings", 10, START),
+                journalEntry("api.flight.com", "/api/bookings", 30, START),
+                journalEntry("api.flight.com", "/api/flights", 100, START),
+                journalEntry("api.hotel.com", "/api/bookings", 5, START)));
+
+        assertThat(stats.getEndpoints()).containsOnlyKeys("api.flight.com/api/bookings", "api.flight.com/api/flights", "api.hotel.com/api/bookings");
+        LatencyHistogram bookings = stats.getEndpoint("api.flight.com", "/api/bookings").get();
+        assertThat(bookings.getCount()).isEqualTo(2);
+        assertThat(bookings.getP50()).isEqualTo(10);
+        assertThat(bookings.getMax()).isEqualTo(30);
+        assertThat(stats.getEndpoint("api.car.com", "/api/bookings")).isEmpty();
+        assertThat(stats.getOverall().getCount()).isEqualTo(4);
+        assertThat(stats.getOverall().getMax()).isEqualTo(100);
+    }
+
+    @Test
+    public void shouldCountThroughputPerWindow() throws Exception {
+        JournalStats stats = JournalStats.of(Stream.of(
+                journalEntry("api.flight.com", "/", 1, START),
+                journalEntry("api.flight.com", "/", 1, START.plusNanos(950_000_000)),
+                journalEntry("api.flight.com", "/", 1, START.plusSeconds(1)),
+                journalEntry("api.flight.com", "/", 1, START.plusSeconds(5))), Duration.ofSeconds(1));
+
+        assertThat(stats.getThroughput()).containsExactly(
+                entry(START.withNano(0), 1L),
+                entry(START.withNano(0).plusSeconds(1), 2L),
+                entry(START.withNano(0).plusSeconds(5), 1L));
+        assertThat(stats.getPeakThroughput()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void shouldReportPeakThroughputPerSecondForShorterWindows() throws Exception {
+        JournalStats stats = JournalStats.of(Stream.of(
+                journalEntry("api.flight.com", "/", 1, START),
+                journalEntry("api.flight.com", "/", 1, START.plusNanos(40_000_000))), Duration.ofMillis(100));
+
+        assertThat(stats.getThroughput()).containsExactly(entry(START.withNano(0), 2L));
+        assertThat(stats.getPeakThroughput()).isEqualTo(20.0);
+    }
+
+    @Test
+    public void shouldIgnoreMissingLatencyAndTime() throws Exception {
+        JournalStats stats = new JournalStats();
+        stats.record(journalEntry("api.flight.com", "/", null, START));
+        stats.record(journalEntry("api.flight.com", "/", 20, null));
+
+        assertThat(stats.getOverall().getCount()).isEqualTo(1);
+        assertThat(stats.getThroughput()).hasSize(1);
+    }
+
+    @Test
+    public void shouldComputeStatsFromJournal() throws Exception {
+        Journal journal = new ObjectMapper().readValue(Resources.getResource("sample-journal.json"), Journal.class);
+
+        JournalStats stats = JournalStats.of(journal.getEntries().stream());
+
+        assertThat(stats.getEndpoint("hoverfly.io", "/").get().getMax()).isEqualTo(2);
+        assertThat(stats.getThroughput()).hasSize(1);
+    }
+
+    private static JournalEntry journalEntry(String destination, String path, Integer latency, LocalDateTime timeStarted) {
+        RequestDetails request = new RequestDetails("http", destination, path, "", "", "GET", Collections.emptyMap());
+        return new JournalEntry(request, null, "simulate", timeStarted, latency);
+    }
+}
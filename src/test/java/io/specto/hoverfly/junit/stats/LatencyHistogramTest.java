@@ -0,0 +1,83 @@
+package io.specto.hoverfly.junit.stats;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void shouldBeEmptyInitially() throws Exception {
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMin()).isZero();
+        assertThat(histogram.getMax()).isZero();
+        assertThat(histogram.getMean()).isZero();
+        assertThat(histogram.getP99()).isZero();
+    }
+
+    @Test
+    public void shouldRecordSmallLatenciesExactly() throws Exception {
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getMin()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(100);
+        assertThat(histogram.getMean()).isEqualTo(50.5);
+        assertThat(histogram.getP50()).isEqualTo(50);
+        assertThat(histogram.getP90()).isEqualTo(90);
+        assertThat(histogram.getP99()).isEqualTo(99);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeepPercentilesOfLargeLatenciesWithinPrecision() throws Exception {
+        Random random = new Random(42);
+        int[] latencies = IntStream.range(0, 100_000).map(i -> random.nextInt(60_000)).sorted().toArray();
+        for (int latency : latencies) {
+            histogram.record(latency);
+        }
+
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            int exact = latencies[(int) Math.ceil(percentile / 100 * latencies.length) - 1];
+            assertThat((double) histogram.getValueAtPercentile(percentile)).isCloseTo(exact, within(exact / 64.0 + 1));
+            assertThat(histogram.getValueAtPercentile(percentile)).isGreaterThanOrEqualTo(exact);
+        }
+        assertThat(histogram.getMax()).isEqualTo(latencies[latencies.length - 1]);
+    }
+
+    @Test
+    public void shouldRecordLargestLatency() throws Exception {
+        histogram.record(Integer.MAX_VALUE);
+
+        assertThat(histogram.getP50()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldAddHistograms() throws Exception {
+        LatencyHistogram other = new LatencyHistogram();
+        histogram.record(10);
+        other.record(1000);
+        other.record(5);
+
+        histogram.add(other);
+
+        assertThat(histogram.getCount()).isEqualTo(3);
+        assertThat(histogram.getMin()).isEqualTo(5);
+        assertThat(histogram.getMax()).isEqualTo(1000);
+        assertThat(histogram.getP50()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldRejectNegativeLatency() throws Exception {
+        assertThatThrownBy(() -> histogram.record(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
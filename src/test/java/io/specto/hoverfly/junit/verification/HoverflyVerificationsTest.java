@@ -121,4 +121,13 @@ public class HoverflyVerificationsTest {
                 .hasMessageContaining("Expected at most 2 requests")
                 .hasMessageContaining("But actual number of requests is 3");
     }
+
+    @Test
+    public void shouldOnlyReportFirstTenActualRequests() throws Exception {
+        VerificationData data = new VerificationData(new Journal(Collections.nCopies(25, journalEntry)));
+        assertThatThrownBy(() -> HoverflyVerifications.never().verify(request, data))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageContaining("But actual number of requests is 25")
+                .hasMessageEndingWith("... and 15 more.\n");
+    }
 }